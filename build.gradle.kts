@@ -89,6 +89,12 @@ val mixins by sourceSets.registering {
         extendsFrom(mixinsConfig)
     }
 }
+// Benchmarks, run with the jmh task. They share the stubs of the unit tests.
+val jmh by sourceSets.registering {
+    val test = sourceSets.test.get()
+    compileClasspath += test.output + test.compileClasspath
+    runtimeClasspath += test.output + test.runtimeClasspath
+}
 
 dependencies {
     // api
@@ -175,6 +181,10 @@ dependencies {
     testImplementation(libs.mockito.junitJupiter) {
         exclude(group = "org.junit.jupiter", module = "junit-jupiter-api")
     }
+
+    // Benchmarks
+    add(jmh.get().implementationConfigurationName, libs.jmh.core)
+    add(jmh.get().annotationProcessorConfigurationName, libs.jmh.generator)
 }
 
 allprojects {
@@ -443,6 +453,21 @@ tasks {
         useJUnitPlatform()
     }
 
+    register("jmh", JavaExec::class) {
+        group = "verification"
+        description = "Runs the JMH benchmarks. Pass -PjmhInclude=<regex> to select benchmarks."
+        val results = layout.buildDirectory.file("reports/jmh/results.json")
+        classpath = jmh.get().runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        outputs.file(results)
+        outputs.upToDateWhen { false }
+        args("-rf", "json", "-rff", results.get().asFile.absolutePath)
+        (project.findProperty("jmhInclude") as String?)?.let { args(it) }
+        doFirst {
+            results.get().asFile.parentFile.mkdirs()
+        }
+    }
+
     check {
         dependsOn(gradle.includedBuild("SpongeAPI").task(":check"))
     }
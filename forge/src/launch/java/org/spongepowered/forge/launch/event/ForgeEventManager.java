@@ -174,7 +174,9 @@ private boolean postDualBus(
             }
 
             // and now we do our standard event listener stuff.
-            return this.post(spongeEvent, listeners.afterModifications());
+            final boolean cancelled = this.post(spongeEvent, listeners.afterModifications());
+            SpongeEventManager.postAsync(spongeEvent, listeners);
+            return cancelled;
         }
     }
 }
@@ -163,7 +163,9 @@ private boolean postDualBus(final org.spongepowered.api.event.Event spongeEvent,
             }
 
             // and now we do our standard event listener stuff.
-            return this.post(spongeEvent, listeners.afterModifications());
+            final boolean cancelled = this.post(spongeEvent, listeners.afterModifications());
+            SpongeEventManager.postAsync(spongeEvent, listeners);
+            return cancelled;
         }
     }
 }
@@ -73,6 +73,12 @@ public final class CommonConfig implements Config {
     @Setting
     public final OptimizationCategory optimizations = new OptimizationCategory();
 
+    @Setting("event-manager")
+    public final EventManagerCategory eventManager = new EventManagerCategory();
+
+    @Setting
+    public final SchedulerCategory scheduler = new SchedulerCategory();
+
     @Setting("phase-tracker")
     public final PhaseTrackerCategory phaseTracker = new PhaseTrackerCategory();
 
@@ -0,0 +1,69 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigSerializable
+public final class EventManagerCategory {
+
+    @Setting("generated-dispatchers")
+    @Comment("If 'true', the event manager will generate a dedicated dispatcher class \n"
+             + "for every event type once its listeners are known, calling each listener \n"
+             + "in a straight-line sequence instead of iterating over them. This allows the \n"
+             + "JVM to inline listener calls for frequently posted events at the cost of \n"
+             + "generating one class per posted event type.")
+    public boolean generatedDispatchers = false;
+
+    @Setting("generated-dispatcher-max-listeners")
+    @Comment("The maximum number of listeners an event type may have for a dispatcher \n"
+             + "to be generated for it. Event types with more listeners are always \n"
+             + "dispatched by iterating over their listeners.")
+    public int generatedDispatcherMaxListeners = 64;
+
+    @Setting("async-listeners")
+    @Comment("Listeners that are passed events on a separate thread instead of the thread \n"
+             + "posting them, for listeners that only observe events, such as for logging or \n"
+             + "statistics. Entries are either a plugin id, 'plugin-id:listener.Class' or \n"
+             + "'plugin-id:listener.Class#method'. Only events that cannot be cancelled and are \n"
+             + "not lifecycle events are passed asynchronously, after all other listeners have \n"
+             + "handled them. Each listener receives its events in the order they were posted.")
+    public final List<String> asyncListeners = new ArrayList<>();
+
+    @Setting("async-listener-queue-size")
+    @Comment("The maximum number of events waiting to be passed to a single async listener.")
+    public int asyncListenerQueueSize = 1024;
+
+    @Setting("async-listener-max-wait")
+    @Comment("The time, in milliseconds, posting an event waits for room in the queue of an \n"
+             + "async listener that is full, before the event is dropped for that listener. \n"
+             + "Events posted on the server thread never wait and are dropped right away.")
+    public int asyncListenerMaxWait = 50;
+}
@@ -79,6 +79,39 @@ public final class PhaseTrackerCategory {
                                                                + "to resolve the runaway. If verbose is enabled, they will always print.")
     public int maximumPrintedRunawayCounts = 3;
 
+    @Setting("profiler-dump-interval")
+    @Comment("The interval, in seconds, at which the phase profiler writes its \n"
+             + "timings to the 'dumps' directory while it is recording. The \n"
+             + "profiler is started with '/sponge tracker start'. If '0', the \n"
+             + "timings are only written with '/sponge tracker dump'.")
+    public int profilerDumpInterval = 0;
+
+    @Setting("max-block-event-batch-size")
+    @Comment("The maximum number of consecutive block changes in the same world \n"
+             + "that are grouped into a single ChangeBlockEvent.All when block \n"
+             + "changes are bulk captured. Large operations are split into events \n"
+             + "of at most this many transactions. If '0', batches are not limited.")
+    public int maxBlockEventBatchSize = 0;
+
+    @Setting("context-pool-max-size")
+    @Comment("The maximum number of idle phase contexts kept for reuse per phase \n"
+             + "state. Contexts closed while the pool of their state is full are \n"
+             + "discarded. If '0', pools are not limited and keep every closed \n"
+             + "context. '/sponge tracker pools' shows how well each pool is used.")
+    public int contextPoolMaxSize = 0;
+
+    @Setting("context-pool-max-sizes")
+    @Comment("Overrides of 'context-pool-max-size' for individual phase states, \n"
+             + "keyed by the name of the state as shown by '/sponge tracker pools'.")
+    public final Map<String, Integer> contextPoolMaxSizes = new HashMap<>();
+
+    @Setting("context-leak-detection-ticks")
+    @Comment("If above '0', pooled phase contexts that are not closed within this \n"
+             + "many ticks of being created are reported once, along with where they \n"
+             + "were created. This records a stack trace for every context, so it is \n"
+             + "meant for tracking down plugins or mods that break the phase stack.")
+    public int contextLeakDetectionTicks = 0;
+
     @Setting("max-block-processing-depth")
     @Comment("The maximum number of times to recursively process transactions in a single phase.\n"
                                                            + "Some mods may interact badly with Sponge's block capturing system, causing Sponge to\n"
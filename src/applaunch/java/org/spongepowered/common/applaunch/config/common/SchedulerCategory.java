@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+public final class SchedulerCategory {
+
+    @Setting("async-thread-mode")
+    @Comment("The kind of threads asynchronous scheduler tasks are executed on. \n"
+             + "PLATFORM runs them on a shared, growing pool of platform threads. \n"
+             + "VIRTUAL runs every task on its own virtual thread, which keeps tasks \n"
+             + "that block on I/O (databases, HTTP requests) from holding on to a platform thread. \n"
+             + "Each virtual thread keeps its own cause stack while its task runs.")
+    public AsyncThreadMode asyncThreadMode = AsyncThreadMode.PLATFORM;
+
+    @Setting("async-plugin-concurrency")
+    @Comment("The maximum number of asynchronous tasks of a single plugin that may \n"
+             + "execute at the same time. Further tasks of that plugin are queued until \n"
+             + "one of its running tasks completes. 0 means unlimited.")
+    public int asyncPluginConcurrency = 0;
+
+    @Setting("sync-tick-budget")
+    @Comment("The maximum time in milliseconds synchronous scheduler tasks may run \n"
+             + "for in a single tick. Due tasks are taken from each plugin in turn, and \n"
+             + "tasks that do not fit are carried into the next tick. 0 means unlimited.")
+    public long syncTickBudget = 0;
+
+    public enum AsyncThreadMode {
+        PLATFORM,
+        VIRTUAL
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import io.leangen.geantyref.TypeToken;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.GenericEvent;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.common.test.BenchmarkBootstrap;
+import org.spongepowered.common.test.TestEventManager;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures posting an event through the {@link SpongeEventManager} to a
+ * varying number of plain, generic and filtered listeners.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventPostBenchmark {
+
+    @Param({"0", "1", "10", "100"})
+    public int listeners;
+
+    private SpongeEventManager eventManager;
+    private PlainEvent plainEvent;
+    private StringEvent genericEvent;
+    private FilteredEvent filteredEvent;
+
+    @Setup
+    public void setUp() {
+        BenchmarkBootstrap.init();
+        this.eventManager = new TestEventManager();
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (int i = 0; i < this.listeners; i++) {
+            this.eventManager.registerListeners(plugin, new PlainListener(), lookup);
+            this.eventManager.registerListeners(plugin, new GenericListener(), lookup);
+            this.eventManager.registerListeners(plugin, new FilteredListener(), lookup);
+        }
+        final Cause cause = Cause.of(EventContext.empty(), plugin);
+        this.plainEvent = new PlainEvent(cause);
+        this.genericEvent = new StringEvent(cause);
+        this.filteredEvent = new FilteredEvent(cause);
+        // Bake the handlers outside of the measurement
+        this.eventManager.post(this.plainEvent);
+        this.eventManager.post(this.genericEvent);
+        this.eventManager.post(this.filteredEvent);
+    }
+
+    @Benchmark
+    public boolean post() {
+        return this.eventManager.post(this.plainEvent);
+    }
+
+    @Benchmark
+    public boolean postGeneric() {
+        return this.eventManager.post(this.genericEvent);
+    }
+
+    @Benchmark
+    public boolean postFiltered() {
+        return this.eventManager.post(this.filteredEvent);
+    }
+
+    abstract static class BenchmarkEvent implements Event {
+
+        private final Cause cause;
+
+        BenchmarkEvent(final Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause cause() {
+            return this.cause;
+        }
+    }
+
+    public static final class PlainEvent extends BenchmarkEvent {
+
+        PlainEvent(final Cause cause) {
+            super(cause);
+        }
+    }
+
+    public static final class FilteredEvent extends BenchmarkEvent {
+
+        FilteredEvent(final Cause cause) {
+            super(cause);
+        }
+    }
+
+    public interface ParameterizedEvent<T> extends GenericEvent<T> {
+    }
+
+    public static final class StringEvent extends BenchmarkEvent implements ParameterizedEvent<String> {
+
+        private static final TypeToken<String> PARAM_TYPE = new TypeToken<String>() {};
+
+        StringEvent(final Cause cause) {
+            super(cause);
+        }
+
+        @Override
+        public TypeToken<String> paramType() {
+            return StringEvent.PARAM_TYPE;
+        }
+    }
+
+    public static final class PlainListener {
+
+        private int received;
+
+        @Listener
+        public void onPlain(final PlainEvent event) {
+            this.received++;
+        }
+    }
+
+    public static final class GenericListener {
+
+        private int received;
+
+        @Listener
+        public void onGeneric(final ParameterizedEvent<String> event) {
+            this.received++;
+        }
+    }
+
+    public static final class FilteredListener {
+
+        private int received;
+
+        @Listener
+        public void onFiltered(final FilteredEvent event, final @First PluginContainer plugin) {
+            this.received++;
+        }
+    }
+}
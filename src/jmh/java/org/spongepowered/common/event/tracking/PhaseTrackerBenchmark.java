@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.common.event.tracking.context.StubPhaseState;
+import org.spongepowered.common.test.BenchmarkBootstrap;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures entering and leaving phases on the {@link PhaseTracker} of the
+ * benchmark thread, with a state that captures nothing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhaseTrackerBenchmark {
+
+    private PhaseTracker tracker;
+    private IPhaseState<@NonNull ?> state;
+
+    @Setup
+    public void setUp() {
+        BenchmarkBootstrap.init();
+        this.tracker = PhaseTracker.getInstance();
+        this.state = StubPhaseState.getInstance();
+    }
+
+    @Benchmark
+    public void enterExit() {
+        try (final PhaseContext<@NonNull ?> context = this.state.createPhaseContext(this.tracker)) {
+            context.buildAndSwitch();
+        }
+    }
+
+    @Benchmark
+    public void enterExitNested() {
+        try (final PhaseContext<@NonNull ?> outer = this.state.createPhaseContext(this.tracker)) {
+            outer.buildAndSwitch();
+            try (final PhaseContext<@NonNull ?> inner = this.state.createPhaseContext(this.tracker)) {
+                inner.buildAndSwitch();
+            }
+        }
+    }
+}
@@ -55,6 +55,7 @@
 import org.spongepowered.common.event.lifecycle.RegisterFactoryEventImpl;
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.TrackerTuner;
 import org.spongepowered.common.launch.Lifecycle;
 import org.spongepowered.common.network.channel.SpongeChannelManager;
 import org.spongepowered.common.profile.SpongeGameProfileManager;
@@ -193,6 +194,7 @@ public void establishServerFeatures() {
         Sponge.server().serviceProvider().contextService().registerContextCalculator(new SpongeContextCalculator());
         // Yes this looks odd but prevents having to do sided lifecycle solely to always point at the Server
         ((SpongeServer) this.game.server()).getUsernameCache().load();
+        TrackerTuner.start();
     }
 
     // Methods are in order of the SpongeCommon lifecycle
@@ -92,7 +92,9 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
     private final BlockState blockState;
     private final ResourceKey worldKey;
     private final Vector3i pos;
-    final @Nullable CompoundTag compound;
+    private volatile @Nullable CompoundTag compound;
+    // The block entity to read the compound from on first access, see BuilderImpl#lazyBlockEntity
+    private volatile @Nullable BlockEntity lazyBlockEntity;
     // Internal use only
     private final BlockPos blockPos;
     private final SpongeBlockChangeFlag changeFlag;
@@ -111,6 +113,7 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
             // pooled builder has been reset so this won't be modified.
             this.compound = builder.compound;
         }
+        this.lazyBlockEntity = builder.lazyBlockEntity;
         this.changeFlag = builder.flag;
         this.world = builder.worldRef;
         builder.worldRef = null;
@@ -189,23 +192,25 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
                 return false;
             }
 
+            // Read any deferred block entity data before the block is touched
+            final @Nullable CompoundTag compound = this.compound();
             // Pre-emptively remove 'unsimilar' block entities to avoid drops
             // being created during block change removals
             if (!current.is(((net.minecraft.world.level.block.state.BlockState) this.blockState).getBlock())) {
                 world.removeBlockEntity(pos);
             }
             world.setBlock(pos, replaced, BlockChangeFlagManager.andNotifyClients(flag).getRawFlag());
-            if (this.compound != null) {
+            if (compound != null) {
                 @Nullable BlockEntity te = world.getBlockEntity(pos);
                 if (te != null) {
                     te.setBlockState((net.minecraft.world.level.block.state.BlockState) this.blockState);
-                    te.loadWithComponents(this.compound, world.registryAccess());
+                    te.loadWithComponents(compound, world.registryAccess());
                 } else {
                     // Because, some mods will "unintentionally" only obey some of the rules but not all.
                     // In cases like this, we need to directly just say "fuck it" and deserialize from the compound directly.
                     try {
 
-                        te = BlockEntity.loadStatic(pos, (net.minecraft.world.level.block.state.BlockState) this.blockState, this.compound, world.registryAccess());
+                        te = BlockEntity.loadStatic(pos, (net.minecraft.world.level.block.state.BlockState) this.blockState, compound, world.registryAccess());
                         if (te != null) {
                             world.getChunk(pos).setBlockEntity(te);
                         }
@@ -219,7 +224,7 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
                             .add("Here's the provided compound:");
                         printer.add();
                         try {
-                            printer.addWrapped(80, "%s : %s", "This compound", this.compound);
+                            printer.addWrapped(80, "%s : %s", "This compound", compound);
                         } catch (final Throwable error) {
                             printer.addWrapped(
                                 80,
@@ -261,13 +266,14 @@ public Optional<UUID> notifier() {
 
     @Override
     public Optional<BlockEntityArchetype> createArchetype() {
-        if (this.compound == null) {
+        final @Nullable CompoundTag original = this.compound();
+        if (original == null) {
             return Optional.empty();
         }
 
-        final String blockEntityId = this.compound.getString(Constants.Item.BLOCK_ENTITY_ID);
+        final String blockEntityId = original.getString(Constants.Item.BLOCK_ENTITY_ID);
 
-        final CompoundTag compound = this.compound.copy();
+        final CompoundTag compound = original.copy();
         compound.remove(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X);
         compound.remove(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y);
         compound.remove(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Z);
@@ -311,8 +317,9 @@ public DataContainer toContainer() {
                 .set(Queries.POSITION_Z, this.pos.z())
                 .container()
                 .set(Constants.Block.BLOCK_STATE, this.blockState);
-        if (this.compound != null) {
-            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateFrom(this.compound));
+        final @Nullable CompoundTag compound = this.compound();
+        if (compound != null) {
+            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateFrom(compound));
         }
         return container;
     }
@@ -329,7 +336,59 @@ public Optional<ServerLevel> getServerWorld() {
     }
 
     public Optional<CompoundTag> getCompound() {
-        return this.compound == null ? Optional.empty() : Optional.of(this.compound.copy());
+        final @Nullable CompoundTag compound = this.compound();
+        return compound == null ? Optional.empty() : Optional.of(compound.copy());
+    }
+
+    /**
+     * Gets whether the block entity data of this snapshot has not been read
+     * yet and still refers to the live block entity.
+     *
+     * @return True if the block entity data is still deferred
+     */
+    public boolean isDeferred() {
+        return this.lazyBlockEntity != null;
+    }
+
+    /**
+     * Reads the block entity data now if it was deferred, so that the
+     * snapshot no longer depends on the live block entity. This must be
+     * called before the block entity is mutated or removed by anything
+     * other than the change this snapshot is the original of.
+     */
+    public void materialize() {
+        this.compound();
+    }
+
+    /**
+     * Forgets the block entity the data of this snapshot was deferred to,
+     * without reading it. Once the phase that captured the snapshot is over,
+     * the block entity may change at any time, so the snapshot no longer
+     * keeps it, or its world, around.
+     */
+    public void dropDeferred() {
+        if (this.lazyBlockEntity != null) {
+            synchronized (this) {
+                this.lazyBlockEntity = null;
+            }
+        }
+    }
+
+    @Nullable CompoundTag compound() {
+        if (this.lazyBlockEntity != null) {
+            synchronized (this) {
+                final @Nullable BlockEntity blockEntity = this.lazyBlockEntity;
+                if (blockEntity != null) {
+                    try {
+                        this.compound = blockEntity.saveWithFullMetadata(blockEntity.getLevel().registryAccess());
+                    } catch (final Throwable t) {
+                        // ignore, same as TrackingUtil#addTileEntityToBuilder
+                    }
+                    this.lazyBlockEntity = null;
+                }
+            }
+        }
+        return this.compound;
     }
 
     public BuilderImpl createBuilder() {
@@ -342,18 +401,20 @@ public BuilderImpl createBuilder() {
         } else {
             builder.world(this.worldKey);
         }
-        if (this.compound != null) {
-            builder.addUnsafeCompound(this.compound);
+        final @Nullable CompoundTag compound = this.compound();
+        if (compound != null) {
+            builder.addUnsafeCompound(compound);
         }
         return builder;
     }
 
     @Override
     public DataContainer data$getDataContainer() {
-        if (this.compound == null) {
+        final @Nullable CompoundTag compound = this.compound();
+        if (compound == null) {
             return DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        return NBTTranslator.INSTANCE.translate(compound);
     }
 
     @Override
@@ -365,7 +426,8 @@ public BuilderImpl createBuilder() {
 
     @Override
     public CompoundTag data$getCompound() {
-        return this.compound == null ? new CompoundTag() : this.compound.copy();
+        final @Nullable CompoundTag compound = this.compound();
+        return compound == null ? new CompoundTag() : compound.copy();
     }
 
     @Override
@@ -406,7 +468,7 @@ public boolean equals(final Object o) {
                this.changeFlag == that.changeFlag &&
                Objects.equals(this.worldKey, that.worldKey) &&
                Objects.equals(this.pos, that.pos) &&
-               Objects.equals(this.compound, that.compound);
+               Objects.equals(this.compound(), that.compound());
     }
 
     @Override
@@ -416,7 +478,7 @@ public int hashCode() {
                 this.worldKey,
                 this.pos,
                 this.changeFlag,
-                this.compound);
+                this.compound());
     }
 
     @Override
@@ -450,6 +512,7 @@ public static BuilderImpl pooled() {
         Vector3i coordinates;
         @Nullable List<DataManipulator.Immutable> manipulators;
         @Nullable CompoundTag compound;
+        @Nullable BlockEntity lazyBlockEntity;
         SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
         @Nullable WeakReference<ServerLevel> worldRef;
         private final boolean pooled;
@@ -553,13 +616,15 @@ public BuilderImpl from(final SpongeBlockSnapshot snapshot) {
             this.blockState = snapshot.state();
             this.worldKey = snapshot.world();
             this.worldRef = snapshot.world;
-            if (snapshot.compound != null) {
+            final @Nullable CompoundTag compound = snapshot.compound();
+            if (compound != null) {
                 // make a copy so that any changes to this compound in the builder
                 // (position) won't accidently be reflected in the original snapshot.
-                this.compound = snapshot.compound.copy();
+                this.compound = compound.copy();
             } else {
                 this.compound = null;
             }
+            this.lazyBlockEntity = null;
             this.coordinates = snapshot.position();
             this.flag = snapshot.getChangeFlag();
             return this;
@@ -602,6 +667,7 @@ public SpongeBlockChangeFlag getFlag() {
             this.coordinates = null;
             this.manipulators = null;
             this.compound = null;
+            this.lazyBlockEntity = null;
             this.flag = null;
             return this;
         }
@@ -657,6 +723,23 @@ public BuilderImpl addUnsafeCompound(final CompoundTag compound) {
             Objects.requireNonNull(compound);
 
             this.compound = compound.copy();
+            this.lazyBlockEntity = null;
+            return this;
+        }
+
+        /**
+         * Defers reading the block entity data until the built snapshot is
+         * first asked for it. Only safe while the block entity is expected to
+         * stay in the world unchanged, the snapshot will otherwise need to be
+         * {@link SpongeBlockSnapshot#materialize() materialized} before the
+         * block entity is touched.
+         *
+         * @param blockEntity The block entity to read the data from
+         * @return This builder, for chaining
+         */
+        public BuilderImpl lazyBlockEntity(final BlockEntity blockEntity) {
+            this.lazyBlockEntity = Objects.requireNonNull(blockEntity);
+            this.compound = null;
             return this;
         }
 
@@ -667,6 +750,7 @@ public BuilderImpl flag(final BlockChangeFlag flag) {
 
         public BuilderImpl tileEntity(final BlockEntity added) {
             this.compound = added.saveWithFullMetadata(added.getLevel().registryAccess());
+            this.lazyBlockEntity = null;
             return this;
         }
     }
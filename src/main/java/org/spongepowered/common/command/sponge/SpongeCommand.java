@@ -64,19 +64,35 @@
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.event.manager.ListenerProfiler;
+import org.spongepowered.common.event.manager.RegisteredListener;
 import org.spongepowered.common.event.manager.SpongeEventManager;
+import org.spongepowered.common.event.tracking.IPhaseState;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
+import org.spongepowered.common.event.tracking.PhaseProfiler;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.TrackerTuner;
+import org.spongepowered.common.event.tracking.context.transaction.pipeline.ChunkPipeline;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.scheduler.AsyncScheduler;
+import org.spongepowered.common.scheduler.SpongeScheduledTask;
+import org.spongepowered.common.scheduler.SpongeScheduler;
+import org.spongepowered.common.scheduler.SpongeTaskMetrics;
 import org.spongepowered.common.util.JvmUtil;
+import org.spongepowered.common.util.Timings;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginMetadata;
 import org.spongepowered.plugin.metadata.model.PluginContributor;
 
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -195,6 +211,19 @@ public Command.Parameterized createSpongeCommand() {
 
         final Command.Parameterized infoCommand = this.infoSubcommand();
 
+        // /sponge events start|stop|report|dump
+        final Command.Parameterized eventsCommand = this.eventsSubcommand();
+
+        // /sponge scheduler
+        final Command.Parameterized schedulerCommand = Command.builder()
+                .permission("sponge.command.scheduler")
+                .shortDescription(Component.text("Displays scheduled task execution statistics by plugin"))
+                .executor(this::schedulerExecutor)
+                .build();
+
+        // /sponge tracker start|stop|report|dump|pools|tuning
+        final Command.Parameterized trackerCommand = this.trackerSubcommand();
+
 
         // /sponge
         final Command.Builder commandBuilder = Command.builder()
@@ -209,6 +238,9 @@ public Command.Parameterized createSpongeCommand() {
                 .addChild(whichCommand, "which")
                 .addChild(reloadCommand, "reload")
                 .addChild(infoCommand, "info")
+                .addChild(eventsCommand, "events")
+                .addChild(schedulerCommand, "scheduler")
+                .addChild(trackerCommand, "tracker")
             ;
 
         this.additionalActions(commandBuilder);
@@ -408,6 +440,275 @@ private Command.Parameterized chunksSubcommand() {
                 .build();
     }
 
+    private Command.Parameterized eventsSubcommand() {
+        final Command.Parameterized startCommand = Command.builder()
+                .shortDescription(Component.text("Resets and starts recording event listener timings"))
+                .executor(context -> {
+                    ListenerProfiler.start(this.eventManager().registeredHandlers());
+                    context.sendMessage(Identity.nil(), Component.text("Started recording event listener timings."));
+                    return CommandResult.success();
+                })
+                .build();
+        final Command.Parameterized stopCommand = Command.builder()
+                .shortDescription(Component.text("Stops recording event listener timings"))
+                .executor(context -> {
+                    ListenerProfiler.stop();
+                    context.sendMessage(Identity.nil(), Component.text("Stopped recording event listener timings."));
+                    return CommandResult.success();
+                })
+                .build();
+        final Command.Parameterized reportCommand = Command.builder()
+                .shortDescription(Component.text("Displays the event listeners with the highest total time"))
+                .executor(this::eventsReportExecutor)
+                .build();
+        final Command.Parameterized dumpCommand = Command.builder()
+                .shortDescription(Component.text("Writes the recorded event listener timings to a file"))
+                .executor(context -> {
+                    try {
+                        final Path path = ListenerProfiler.dump(this.eventManager().registeredHandlers());
+                        context.sendMessage(Identity.nil(), Component.text("Wrote event listener timings to " + path.toAbsolutePath()));
+                        return CommandResult.success();
+                    } catch (final IOException e) {
+                        SpongeCommon.logger().error("Could not write event listener timings", e);
+                        return CommandResult.error(Component.text("Failed to write event listener timings. Check the console for more information."));
+                    }
+                })
+                .build();
+        return Command.builder()
+                .addChild(startCommand, "start")
+                .addChild(stopCommand, "stop")
+                .addChild(reportCommand, "report")
+                .addChild(dumpCommand, "dump")
+                .permission("sponge.command.events")
+                .build();
+    }
+
+    private @NonNull CommandResult eventsReportExecutor(final CommandContext context) {
+        final List<RegisteredListener<?>> listeners = ListenerProfiler.sorted(this.eventManager().registeredHandlers());
+        context.sendMessage(Identity.nil(), this.title("Event listener timings (" + (ListenerProfiler.isEnabled() ? "recording" : "stopped") + ")"));
+        if (listeners.isEmpty()) {
+            context.sendMessage(Identity.nil(), SpongeCommand.EMPTY);
+            return CommandResult.success();
+        }
+        for (final RegisteredListener<?> listener : listeners.subList(0, Math.min(10, listeners.size()))) {
+            final ListenerProfiler.ListenerTimings timings = listener.getTimings();
+            final TextComponent.Builder builder = Component.text()
+                    .append(SpongeCommand.INDENT_COMPONENT)
+                    .append(this.hl(ListenerProfiler.describe(listener)))
+                    .append(Component.newline())
+                    .append(SpongeCommand.LONG_INDENT_COMPONENT)
+                    .append(Component.text(timings.count() + " calls, "
+                            + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(timings.totalNanos() / 1_000_000.0) + " ms total, "
+                            + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(timings.meanNanos() / 1_000.0) + " µs mean, "
+                            + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(timings.maxNanos() / 1_000.0) + " µs max"));
+            if (ListenerProfiler.supportsAllocations()) {
+                builder.append(Component.text(", " + timings.allocatedBytes() + " bytes allocated"));
+            }
+            context.sendMessage(Identity.nil(), builder.build());
+        }
+        return CommandResult.success();
+    }
+
+    private Command.Parameterized trackerSubcommand() {
+        final Command.Parameterized startCommand = Command.builder()
+                .shortDescription(Component.text("Resets and starts recording phase timings"))
+                .executor(context -> {
+                    PhaseProfiler.start();
+                    context.sendMessage(Identity.nil(), Component.text("Started recording phase timings."));
+                    return CommandResult.success();
+                })
+                .build();
+        final Command.Parameterized stopCommand = Command.builder()
+                .shortDescription(Component.text("Stops recording phase timings"))
+                .executor(context -> {
+                    PhaseProfiler.stop();
+                    context.sendMessage(Identity.nil(), Component.text("Stopped recording phase timings."));
+                    return CommandResult.success();
+                })
+                .build();
+        final Command.Parameterized reportCommand = Command.builder()
+                .shortDescription(Component.text("Displays the phase states with the highest total time"))
+                .executor(this::trackerReportExecutor)
+                .build();
+        final Command.Parameterized dumpCommand = Command.builder()
+                .shortDescription(Component.text("Writes the recorded phase timings to a file"))
+                .executor(context -> {
+                    try {
+                        final Path path = PhaseProfiler.dump();
+                        context.sendMessage(Identity.nil(), Component.text("Wrote phase timings to " + path.toAbsolutePath()));
+                        return CommandResult.success();
+                    } catch (final IOException e) {
+                        SpongeCommon.logger().error("Could not write phase timings", e);
+                        return CommandResult.error(Component.text("Failed to write phase timings. Check the console for more information."));
+                    }
+                })
+                .build();
+        final Command.Parameterized poolsCommand = Command.builder()
+                .shortDescription(Component.text("Displays the usage of the phase context pools"))
+                .executor(this::trackerPoolsExecutor)
+                .build();
+        final Command.Parameterized writesCommand = Command.builder()
+                .shortDescription(Component.text("Displays the block writes skipped by the chunk pipeline"))
+                .executor(this::trackerWritesExecutor)
+                .build();
+        final Command.Parameterized tuningCommand = Command.builder()
+                .shortDescription(Component.text("Displays the measured tracking cost per block, entity and block entity type"))
+                .executor(this::trackerTuningExecutor)
+                .build();
+        return Command.builder()
+                .addChild(startCommand, "start")
+                .addChild(stopCommand, "stop")
+                .addChild(reportCommand, "report")
+                .addChild(dumpCommand, "dump")
+                .addChild(poolsCommand, "pools")
+                .addChild(writesCommand, "writes")
+                .addChild(tuningCommand, "tuning")
+                .permission("sponge.command.tracker")
+                .build();
+    }
+
+    private @NonNull CommandResult trackerReportExecutor(final CommandContext context) {
+        final List<Map.Entry<IPhaseState<?>, PhaseProfiler.PhaseTimings>> states = PhaseProfiler.sorted();
+        context.sendMessage(Identity.nil(), this.title("Phase timings (" + (PhaseProfiler.isEnabled() ? "recording" : "stopped") + ")"));
+        if (states.isEmpty()) {
+            context.sendMessage(Identity.nil(), SpongeCommand.EMPTY);
+            return CommandResult.success();
+        }
+        for (final Map.Entry<IPhaseState<?>, PhaseProfiler.PhaseTimings> entry : states.subList(0, Math.min(10, states.size()))) {
+            final PhaseProfiler.PhaseTimings timings = entry.getValue();
+            context.sendMessage(Identity.nil(), Component.text()
+                    .append(SpongeCommand.INDENT_COMPONENT)
+                    .append(this.hl(entry.getKey().toString()))
+                    .append(Component.newline())
+                    .append(SpongeCommand.LONG_INDENT_COMPONENT)
+                    .append(Component.text(timings.count() + " entries, "
+                            + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(timings.totalNanos() / 1_000_000.0) + " ms open, "
+                            + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(timings.unwindNanos() / 1_000_000.0) + " ms unwinding, "
+                            + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(timings.transactionNanos() / 1_000_000.0) + " ms in transactions, "
+                            + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(timings.maxNanos() / 1_000.0) + " µs max"))
+                    .build());
+        }
+        return CommandResult.success();
+    }
+
+    private @NonNull CommandResult trackerPoolsExecutor(final CommandContext context) {
+        final List<PhaseContextPool<?>> pools = PhaseTracker.SERVER.contextPools();
+        pools.sort(Comparator.comparingLong((PhaseContextPool<?> pool) -> pool.hits() + pool.misses()).reversed());
+        context.sendMessage(Identity.nil(), this.title("Phase context pools"));
+        if (pools.isEmpty()) {
+            context.sendMessage(Identity.nil(), SpongeCommand.EMPTY);
+        }
+        for (final PhaseContextPool<?> pool : pools.subList(0, Math.min(10, pools.size()))) {
+            context.sendMessage(Identity.nil(), Component.text()
+                    .append(SpongeCommand.INDENT_COMPONENT)
+                    .append(this.hl(pool.state().toString()))
+                    .append(Component.newline())
+                    .append(SpongeCommand.LONG_INDENT_COMPONENT)
+                    .append(Component.text(pool.size() + (pool.maxSize() == 0 ? "" : "/" + pool.maxSize()) + " idle, "
+                            + pool.hits() + " hits, " + pool.misses() + " misses ("
+                            + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(pool.hitRate() * 100) + "%), "
+                            + pool.discarded() + " discarded, " + pool.outstanding() + " outstanding"))
+                    .build());
+        }
+        return CommandResult.success();
+    }
+
+    private @NonNull CommandResult trackerWritesExecutor(final CommandContext context) {
+        context.sendMessage(Identity.nil(), this.title("Skipped block writes"));
+        context.sendMessage(Identity.nil(), Component.text()
+                .append(SpongeCommand.INDENT_COMPONENT)
+                .append(Component.text(ChunkPipeline.elidedWrites() + " block writes of an identical state skipped"))
+                .build());
+        return CommandResult.success();
+    }
+
+    private @NonNull CommandResult trackerTuningExecutor(final CommandContext context) {
+        final List<Map.Entry<String, TrackerTuner.Samples>> types = TrackerTuner.sorted();
+        context.sendMessage(Identity.nil(), this.title("Tracker tuning (" + (TrackerTuner.isEnabled() ? "sampling" : "disabled") + ")"));
+        if (types.isEmpty()) {
+            context.sendMessage(Identity.nil(), SpongeCommand.EMPTY);
+        }
+        for (final Map.Entry<String, TrackerTuner.Samples> entry : types.subList(0, Math.min(10, types.size()))) {
+            final TrackerTuner.Samples samples = entry.getValue();
+            context.sendMessage(Identity.nil(), Component.text()
+                    .append(SpongeCommand.INDENT_COMPONENT)
+                    .append(this.hl(entry.getKey()))
+                    .append(Component.newline())
+                    .append(SpongeCommand.LONG_INDENT_COMPONENT)
+                    .append(Component.text(samples.contexts() + " ticks, "
+                            + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(samples.open().meanNanos() / 1_000.0) + " µs mean, "
+                            + samples.unwind().count() + " unwinds, "
+                            + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(samples.unwind().meanNanos() / 1_000.0) + " µs mean unwinding, "
+                            + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(samples.meanTrackingNanos() / 1_000.0) + " µs tracking per tick, "
+                            + samples.observedUnwinds() + " observed"))
+                    .build());
+        }
+        final List<String> tuned = TrackerTuner.tunedTypes();
+        if (!tuned.isEmpty()) {
+            context.sendMessage(Identity.nil(), Component.text()
+                    .append(SpongeCommand.INDENT_COMPONENT)
+                    .append(Component.text("Block event tracking turned off for: " + String.join(", ", tuned)))
+                    .build());
+        }
+        return CommandResult.success();
+    }
+
+    private @NonNull CommandResult schedulerExecutor(final CommandContext context) {
+        if (SpongeCommon.game().isServerAvailable()) {
+            final SpongeScheduler serverScheduler = SpongeCommon.serverScheduler();
+            context.sendMessage(Identity.nil(), this.schedulerMetrics("Server scheduler", serverScheduler));
+            final SpongeScheduler.DeferralMetrics deferral = serverScheduler.deferralMetrics();
+            context.sendMessage(Identity.nil(), Component.text()
+                    .append(SpongeCommand.INDENT_COMPONENT)
+                    .append(Component.text("Deferred tasks: " + deferral.deferredTasks() + ", overflowed ticks: " + deferral.overflowedTicks()
+                            + ", overflowed tasks: " + deferral.overflowedTasks() + ", max wait: "
+                            + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(deferral.maxDeferredNanos() / 1_000_000.0) + " ms"))
+                    .build());
+        }
+        final AsyncScheduler asyncScheduler = SpongeCommon.asyncScheduler();
+        context.sendMessage(Identity.nil(), this.schedulerMetrics("Async scheduler", asyncScheduler));
+        asyncScheduler.laneMetrics().forEach((plugin, lane) -> context.sendMessage(Identity.nil(), Component.text()
+                .append(SpongeCommand.INDENT_COMPONENT)
+                .append(this.hl(plugin.metadata().id()))
+                .append(Component.text(": " + lane.running() + " running, " + lane.queued() + " queued, " + lane.completed() + " completed"))
+                .build()));
+        return CommandResult.success();
+    }
+
+    private Component schedulerMetrics(final String title, final SpongeScheduler scheduler) {
+        final TextComponent.Builder builder = Component.text().append(this.title(title));
+        final List<Map.Entry<PluginContainer, SpongeTaskMetrics>> metrics = Timings.sorted(scheduler.pluginMetrics().entrySet(),
+                entry -> entry.getValue().maxNanos());
+        if (metrics.isEmpty()) {
+            return builder.append(Component.newline()).append(SpongeCommand.INDENT_COMPONENT).append(SpongeCommand.EMPTY).build();
+        }
+        for (final Map.Entry<PluginContainer, SpongeTaskMetrics> entry : metrics) {
+            builder.append(Component.newline())
+                    .append(SpongeCommand.INDENT_COMPONENT)
+                    .append(this.hl(entry.getKey().metadata().id()))
+                    .append(Component.text(": " + this.taskMetrics(entry.getValue())));
+            scheduler.tasks(entry.getKey()).stream()
+                    .map(SpongeScheduledTask.class::cast)
+                    .max(Comparator.comparingLong(task -> task.metrics().maxNanos()))
+                    .filter(task -> task.metrics().count() > 0)
+                    .ifPresent(task -> builder.append(Component.newline())
+                            .append(SpongeCommand.LONG_INDENT_COMPONENT)
+                            .append(Component.text("Slowest task " + task.name() + ": " + this.taskMetrics(task.metrics()))));
+        }
+        return builder.build();
+    }
+
+    private String taskMetrics(final SpongeTaskMetrics metrics) {
+        return metrics.count() + " runs, "
+                + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.meanNanos() / 1_000_000.0) + " ms mean, "
+                + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.maxNanos() / 1_000_000.0) + " ms max, "
+                + metrics.overruns() + " skipped intervals";
+    }
+
+    private SpongeEventManager eventManager() {
+        return (SpongeEventManager) SpongeCommon.game().eventManager();
+    }
+
     private @NonNull CommandResult heapSubcommandExecutor(final CommandContext context) {
         context.sendMessage(Component.text("Writing JVM heap data"));
         if (JvmUtil.dumpHeap()) {
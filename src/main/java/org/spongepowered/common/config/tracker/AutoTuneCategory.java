@@ -0,0 +1,65 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.tracker;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigSerializable
+public final class AutoTuneCategory {
+
+    @Setting
+    @Comment("If 'true', Sponge measures how long each block, entity and block entity type \n"
+             + "keeps its tick phase open and unwinding, and turns off block event tracking \n"
+             + "('block-event-creation' and 'block-bulk-capture') for the types whose captures \n"
+             + "are expensive to unwind while no plugin listens to block changes, neighbor \n"
+             + "notifications, entity spawns, item drops or entity deaths. The values set in \n"
+             + "this file are left as they are, the tuned types are turned back to them once \n"
+             + "such a listener is registered.")
+    public boolean enabled = false;
+
+    @Setting("evaluation-interval")
+    @Comment("The interval, in seconds, at which the measured costs are evaluated.")
+    public int evaluationInterval = 300;
+
+    @Setting("minimum-samples")
+    @Comment("The number of ticks a type needs to have been measured for before it is evaluated.")
+    public int minimumSamples = 1000;
+
+    @Setting("cost-threshold")
+    @Comment("The mean time per tick, in microseconds, unwinding the captures of a type \n"
+             + "needs to take before its block event tracking is turned off.")
+    public int costThreshold = 50;
+
+    @Setting("tuned-types")
+    @Comment("The types whose block event tracking was turned off by the auto-tuner, \n"
+             + "on top of their values in this file. Removing an entry turns the type back \n"
+             + "to its configured values on the next restart.")
+    public final List<String> tunedTypes = new ArrayList<>();
+}
@@ -60,4 +60,7 @@ public final class TrackerConfig implements Config {
 
     @Setting("block-entity")
     public final BlockEntityTrackerCategory blockEntity = new BlockEntityTrackerCategory();
+
+    @Setting("auto-tune")
+    public final AutoTuneCategory autoTune = new AutoTuneCategory();
 }
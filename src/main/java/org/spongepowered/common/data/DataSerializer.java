@@ -44,6 +44,10 @@
 public class DataSerializer {
 
     public static Object serialize(final DataView.SafetyMode safetyMode, final Object value) {
+        if (value instanceof LazyByteArray) {
+            // Encoded into a new array whenever it is read, so never shared
+            return value;
+        }
         if (value instanceof DataView) {
             switch (safetyMode) {
                 case ALL_DATA_CLONED:
@@ -0,0 +1,77 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A byte array value of a {@link MemoryDataView} that is only encoded once it
+ * is needed. Reading the value through the view encodes it and replaces it
+ * with the array, while formats able to stream it, like NBT, write it
+ * straight from its source without holding the whole array in memory.
+ */
+public abstract class LazyByteArray {
+
+    /**
+     * Gets the length of the array.
+     *
+     * @return The length
+     */
+    public abstract int length();
+
+    /**
+     * Writes the bytes of the array to the given output, without its length.
+     *
+     * @param output The output to write to
+     * @throws IOException If the output could not be written
+     */
+    public abstract void writeTo(DataOutput output) throws IOException;
+
+    /**
+     * Encodes the array as a whole.
+     *
+     * @return The array
+     */
+    public final byte[] resolve() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(this.length());
+        try {
+            this.writeTo(new DataOutputStream(bytes));
+        } catch (final IOException e) {
+            // A ByteArrayOutputStream never throws
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + "{length=" + this.length() + "}";
+    }
+
+}
@@ -187,10 +187,14 @@ public Optional<Object> get(final DataQuery path) {
 
         final String key = queryParts.get(0);
         if (sz == 1) {
-            final Object object = this.map.get(key);
+            Object object = this.map.get(key);
             if (object == null) {
                 return Optional.empty();
             }
+            if (object instanceof LazyByteArray) {
+                object = ((LazyByteArray) object).resolve();
+                this.map.put(key, object);
+            }
             if (this.safety == org.spongepowered.api.data.persistence.DataView.SafetyMode.ALL_DATA_CLONED) {
                 if (object.getClass().isArray()) {
                     if (object instanceof byte[]) {
@@ -329,6 +333,17 @@ public DataView createView(final DataQuery path, final Map<?, ?> map) {
         return section;
     }
 
+    /**
+     * Gets the value of the key in this view as it is stored, without
+     * encoding a {@link LazyByteArray} or cloning arrays.
+     *
+     * @param key The key
+     * @return The stored value, if any
+     */
+    public @Nullable Object getRaw(final String key) {
+        return this.map.get(key);
+    }
+
     @Override
     public Optional<DataView> getView(final DataQuery path) {
         return this.get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
@@ -24,14 +24,19 @@
  */
 package org.spongepowered.common.data.persistence;
 
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.ByteTag;
+import net.minecraft.nbt.Tag;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataFormat;
+import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataFormatException;
+import org.spongepowered.common.data.LazyByteArray;
+import org.spongepowered.common.data.MemoryDataView;
+import org.spongepowered.common.world.schematic.SchematicStreams;
 
 import java.io.DataInputStream;
+import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -49,8 +54,8 @@ public DataContainer readFrom(InputStream input) throws InvalidDataFormatExcepti
             dis = new DataInputStream(input);
         }
         try {
-            CompoundTag tag = NbtIo.read(dis);
-            return NBTTranslator.INSTANCE.translateFrom(tag);
+            // Decodes the data of schematics straight into their volumes
+            return SchematicStreams.read(dis);
         } finally {
             dis.close();
         }
@@ -59,7 +64,6 @@ public DataContainer readFrom(InputStream input) throws InvalidDataFormatExcepti
     @Override
     @SuppressWarnings("resource")
     public void writeTo(OutputStream output, DataView data) throws IOException {
-        CompoundTag tag = NBTTranslator.INSTANCE.translate(data);
         DataOutputStream dos;
         if (output instanceof DataOutputStream) {
             dos = (DataOutputStream) output;
@@ -67,10 +71,46 @@ public void writeTo(OutputStream output, DataView data) throws IOException {
             dos = new DataOutputStream(output);
         }
         try {
-            NbtIo.write(tag, dos);
+            dos.writeByte(Tag.TAG_COMPOUND);
+            dos.writeUTF("");
+            NBTDataFormat.writeCompound(dos, data);
         } finally {
             dos.close();
         }
     }
 
+    /**
+     * Writes the entries of the view as NBT, the same as translating it to a
+     * compound would, but without building the compound first, so byte arrays
+     * that are only encoded once needed are written straight from their source.
+     */
+    private static void writeCompound(final DataOutput output, final DataView view) throws IOException {
+        for (final DataQuery query : view.keys(false)) {
+            final String key = query.asString('.');
+            final Object value = view instanceof MemoryDataView ? ((MemoryDataView) view).getRaw(key) : view.get(query).get();
+            if (value instanceof LazyByteArray) {
+                final LazyByteArray array = (LazyByteArray) value;
+                output.writeByte(Tag.TAG_BYTE_ARRAY);
+                output.writeUTF(key);
+                output.writeInt(array.length());
+                array.writeTo(output);
+            } else if (value instanceof DataView) {
+                output.writeByte(Tag.TAG_COMPOUND);
+                output.writeUTF(key);
+                NBTDataFormat.writeCompound(output, (DataView) value);
+            } else if (value instanceof Boolean) {
+                NBTDataFormat.writeTag(output, key + NBTTranslator.BOOLEAN_IDENTIFIER, ByteTag.valueOf((Boolean) value));
+            } else {
+                NBTDataFormat.writeTag(output, key, NBTTranslator.getBaseFromObject(value));
+            }
+        }
+        output.writeByte(Tag.TAG_END);
+    }
+
+    private static void writeTag(final DataOutput output, final String key, final Tag tag) throws IOException {
+        output.writeByte(tag.getId());
+        output.writeUTF(key);
+        tag.write(output);
+    }
+
 }
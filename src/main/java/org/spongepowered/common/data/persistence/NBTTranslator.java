@@ -89,7 +89,7 @@ private static void containerToCompound(final DataView container, final Compound
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Tag getBaseFromObject(final Object value) {
+    static Tag getBaseFromObject(final Object value) {
         Objects.requireNonNull(value);
         if (value instanceof Boolean) {
             return ByteTag.valueOf((Boolean) value);
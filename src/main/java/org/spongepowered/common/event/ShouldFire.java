@@ -43,6 +43,9 @@ public final class ShouldFire {
     // ShouldFire.DROP_ITEM_EVENT_DISPENSE or ShouldFire.SPAWN_ENTITY_EVENT
     // However, you may *not* check ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM,
     // since SpawnEntityEvent.CUSTOM is not in the hierarchy of DropItemEvent.DISPENSE
+    //
+    // Events without a field here still have a flag, which can be looked up
+    // with EventFlag#of and follows the same rules.
 
     public static boolean ANIMATE_HAND_EVENT = false;
     public static boolean INTERACT_ITEM_EVENT_PRIMARY = false;
@@ -114,6 +114,7 @@
 import org.spongepowered.common.bridge.world.storage.MapItemSavedDataBridge;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.entity.projectile.UnknownProjectileSource;
+import org.spongepowered.common.event.manager.EventFlag;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
@@ -140,6 +141,8 @@ public final class SpongeCommonEventFactory {
 
     private static final double MOVEMENT_GRID_POINTS_PER_BLOCK = 8.0d;
     private static final double ROTATION_GRID_POINTS_PER_UNIT = 20.0f;
+    private static final EventFlag COLLIDE_BLOCK_EVENT_IMPACT = EventFlag.of(CollideBlockEvent.Impact.class);
+    private static final EventFlag COLLIDE_ENTITY_EVENT_IMPACT = EventFlag.of(CollideEntityEvent.Impact.class);
 
     @SuppressWarnings("unchecked")
     public static <T extends net.minecraft.world.entity.Entity> CollideEntityEvent callCollideEntityEvent(
@@ -577,6 +580,22 @@ public static boolean handleCollideBlockEvent(final Block block, final Level wor
     public static boolean handleCollideImpactEvent(final net.minecraft.world.entity.Entity projectile, final @Nullable ProjectileSource projectileSource,
             final HitResult movingObjectPosition) {
         final HitResult.Type movingObjectType = movingObjectPosition.getType();
+        if (movingObjectType == HitResult.Type.BLOCK && !SpongeCommonEventFactory.COLLIDE_BLOCK_EVENT_IMPACT.shouldFire()) {
+            // Skip the snapshot and cause, but still track the notifier of the impacted block
+            final BlockPos blockPos = ((BlockHitResult) movingObjectPosition).getBlockPos();
+            if (blockPos.getY() >= projectile.level().getMinBuildHeight()) {
+                PhaseTracker.getInstance().getPhaseContext().getCreator().ifPresent(creator -> {
+                    final BlockPos targetPos = BlockPos.containing(movingObjectPosition.getLocation());
+                    final LevelChunkBridge spongeChunk = (LevelChunkBridge) projectile.level().getChunkAt(targetPos);
+                    spongeChunk.bridge$addTrackedBlockPosition(projectile.level().getBlockState(blockPos).getBlock(), targetPos, creator,
+                        PlayerTracker.Type.NOTIFIER);
+                });
+            }
+            return false;
+        }
+        if (movingObjectType == HitResult.Type.ENTITY && !SpongeCommonEventFactory.COLLIDE_ENTITY_EVENT_IMPACT.shouldFire()) {
+            return false;
+        }
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.pushCause(projectile);
             frame.addContext(EventContextKeys.PROJECTILE_SOURCE, projectileSource == null
@@ -60,8 +60,6 @@
 import org.spongepowered.api.event.filter.data.GetValue;
 import org.spongepowered.api.event.filter.data.Has;
 import org.spongepowered.api.event.filter.data.Supports;
-import org.spongepowered.api.event.filter.type.Exclude;
-import org.spongepowered.api.event.filter.type.Include;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.util.Tuple;
 import org.spongepowered.common.event.filter.delegate.AfterCauseFilterSourceDelegate;
@@ -69,18 +67,15 @@
 import org.spongepowered.common.event.filter.delegate.BeforeCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.CancellationEventFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.ContextValueFilterSourceDelegate;
-import org.spongepowered.common.event.filter.delegate.ExcludeSubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.FilterDelegate;
 import org.spongepowered.common.event.filter.delegate.FirstCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.GetValueFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.GetterFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.HasDataFilterDelegate;
-import org.spongepowered.common.event.filter.delegate.IncludeSubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.LastCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.ParameterFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.ParameterFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.RootCauseFilterSourceDelegate;
-import org.spongepowered.common.event.filter.delegate.SubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.SupportsDataFilterDelegate;
 import org.spongepowered.common.event.gen.LoaderClassWriter;
 import org.spongepowered.common.event.manager.ListenerClassVisitor;
@@ -141,7 +136,6 @@ public byte[] generateClass(final Class<?> handle, final String localName, final
         final String name = Type.getInternalName(handle) + '_' + localName;
         final ListenerClassVisitor.ListenerParameter[] parameters = method.parameterTypes();
 
-        SubtypeFilterDelegate sfilter = null;
         final List<FilterDelegate> additional = new ArrayList<>();
 
         boolean cancellation = false;
@@ -156,12 +150,8 @@ public byte[] generateClass(final Class<?> handle, final String localName, final
             if (obj == null) {
                 continue;
             }
-            if (obj instanceof SubtypeFilter) {
-                if (sfilter != null) {
-                    throw new IllegalStateException("Cannot have both @Include and @Exclude annotations present at once");
-                }
-                sfilter = ((SubtypeFilter) obj).getDelegate(annotation);
-            } else if (obj instanceof EventTypeFilter) {
+            // @Include and @Exclude are resolved against the concrete event type when the handlers are baked
+            if (obj instanceof EventTypeFilter) {
                 final EventTypeFilter etf = (EventTypeFilter) obj;
                 additional.add(etf.getDelegate(annotation));
                 if (etf == EventTypeFilter.CANCELLATION) {
@@ -174,7 +164,7 @@ public byte[] generateClass(final Class<?> handle, final String localName, final
         }
 
         // we know there are no filters, skip generating a class
-        if (additional.isEmpty() && sfilter == null && parameters.length == 1) {
+        if (additional.isEmpty() && parameters.length == 1) {
             return null;
         }
 
@@ -183,17 +173,11 @@ public byte[] generateClass(final Class<?> handle, final String localName, final
 
         cw.visit(V11, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, "java/lang/Object", new String[] { Type.getInternalName(EventFilter.class) });
 
-        if (sfilter != null) {
-            sfilter.createFields(cw);
-        }
         {
             mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
             mv.visitCode();
             mv.visitVarInsn(ALOAD, 0);
             mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
-            if (sfilter != null) {
-                sfilter.writeCtor(name, cw, mv);
-            }
             mv.visitInsn(RETURN);
             mv.visitMaxs(0, 0);
             mv.visitEnd();
@@ -203,9 +187,6 @@ public byte[] generateClass(final Class<?> handle, final String localName, final
             mv.visitCode();
             // index of the next available local variable
             int local = 2;
-            if (sfilter != null) {
-                local = sfilter.write(name, cw, mv, method, local);
-            }
             for (final FilterDelegate eventFilter : additional) {
                 local = eventFilter.write(name, cw, mv, method, local);
             }
@@ -306,8 +287,6 @@ private static Object filterFromAnnotation(
         final Optional<Class<?>> clazz = method.optionalClassByLoader(anno.type().getClassName());
         return clazz.map(cls -> {
             Object filter;
-            if ((filter = SubtypeFilter.valueOf(cls)) != null)
-                return filter;
             if ((filter = EventTypeFilter.valueOf(cls)) != null)
                 return filter;
             if ((filter = ParameterSource.valueOf(cls)) != null)
@@ -318,38 +297,6 @@ private static Object filterFromAnnotation(
         }).orElse(null);
     }
 
-    private enum SubtypeFilter {
-        INCLUDE(Include.class, IncludeSubtypeFilterDelegate::new),
-        EXCLUDE(Exclude.class, ExcludeSubtypeFilterDelegate::new),
-        ;
-
-        private static final Map<Class<? extends Annotation>, SubtypeFilter> BY_CLAZZ;
-        private final Class<? extends Annotation> cls;
-        private final Function<Annotation, SubtypeFilterDelegate> factory;
-
-        @SuppressWarnings("unchecked")
-        <T extends Annotation> SubtypeFilter(final Class<? extends Annotation> cls, final Function<T, SubtypeFilterDelegate> factory) {
-            this.cls = cls;
-            this.factory = (Function<Annotation, SubtypeFilterDelegate>) factory;
-        }
-
-        public SubtypeFilterDelegate getDelegate(final Annotation anno) {
-            return this.factory.apply(anno);
-        }
-
-        public static SubtypeFilter valueOf(final Class<?> cls) {
-            return SubtypeFilter.BY_CLAZZ.get(cls);
-        }
-
-        static {
-            final Map<Class<? extends Annotation>, SubtypeFilter> byClazz = new HashMap<>();
-            for (final SubtypeFilter value : SubtypeFilter.values()) {
-                byClazz.put(value.cls, value);
-            }
-            BY_CLAZZ = Collections.unmodifiableMap(byClazz);
-        }
-    }
-
     private enum EventTypeFilter {
         CANCELLATION(IsCancelled.class, CancellationEventFilterDelegate::new),
         ;
@@ -0,0 +1,136 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The events waiting to be passed to a single async listener. Events are
+ * passed one at a time and in the order they were offered, by whichever
+ * executor thread drains the lane.
+ *
+ * <p>When the lane is full, the event is dropped for this listener. Events
+ * posted on the server thread are dropped right away, so a listener falling
+ * behind never holds up a tick. Other threads wait up to the configured time
+ * for the listener to catch up first.</p>
+ */
+final class AsyncListenerLane {
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+        .setDaemon(true)
+        .setNameFormat("Sponge-AsyncListener-%d")
+        .build());
+
+    private final RegisteredListener<?> handler;
+    private final int capacity;
+    private final long maxWaitNanos;
+    private final Queue<Event> queued = new ArrayDeque<>();
+    private boolean draining;
+    private long dropped;
+
+    AsyncListenerLane(final RegisteredListener<?> handler, final int capacity, final long maxWaitMillis) {
+        this.handler = handler;
+        this.capacity = Math.max(1, capacity);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMillis));
+    }
+
+    void offer(final Event event) {
+        synchronized (this) {
+            if (this.queued.size() >= this.capacity && (PhaseTracker.SERVER.onSidedThread() || !this.awaitRoom())) {
+                if (Long.bitCount(++this.dropped) == 1) {
+                    SpongeCommon.logger().warn("Async listener {} of {} is falling behind, dropped {} events so far",
+                        this.handler.getHandle(), this.handler.getPlugin().metadata().id(), this.dropped);
+                }
+                return;
+            }
+            this.queued.add(event);
+            if (this.draining) {
+                return;
+            }
+            this.draining = true;
+        }
+        AsyncListenerLane.EXECUTOR.execute(this::drain);
+    }
+
+    private boolean awaitRoom() {
+        final long deadline = System.nanoTime() + this.maxWaitNanos;
+        long remaining = this.maxWaitNanos;
+        try {
+            while (this.queued.size() >= this.capacity && remaining > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return this.queued.size() < this.capacity;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void drain() {
+        final EventListener listener = this.handler.getListener();
+        while (true) {
+            final @Nullable Event event;
+            synchronized (this) {
+                event = this.queued.poll();
+                if (event == null) {
+                    this.draining = false;
+                    return;
+                }
+                this.notifyAll();
+            }
+            try {
+                if (ListenerProfiler.isEnabled()) {
+                    ListenerProfiler.handle(this.handler, listener, event);
+                } else {
+                    listener.handle(event);
+                }
+            } catch (final Throwable e) {
+                SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(),
+                    this.handler.getPlugin().metadata().id(), e);
+            }
+        }
+    }
+
+    synchronized int queued() {
+        return this.queued.size();
+    }
+
+    synchronized long dropped() {
+        return this.dropped;
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import com.google.common.base.CaseFormat;
+import io.leangen.geantyref.GenericTypeReflector;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.configurate.util.Types;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A {@link org.spongepowered.common.event.ShouldFire}-style flag for a single
+ * event interface. A flag exists for every event interface in the hierarchy
+ * of the events that {@link SpongeEventFactory} can create, so call sites are
+ * not limited to the hand-picked fields of {@code ShouldFire}.
+ *
+ * <p>Flags follow the same rules as the {@code ShouldFire} fields and are
+ * maintained by the {@link ListenerChecker}. They are meant to be looked up
+ * once and kept in a static final field:</p>
+ *
+ * <pre>{@code
+ * private static final EventFlag SCHEDULE_BLOCK_UPDATE_EVENT = EventFlag.of(ScheduleBlockUpdateEvent.class);
+ *
+ * if (SCHEDULE_BLOCK_UPDATE_EVENT.shouldFire()) { ... }
+ * }</pre>
+ */
+public final class EventFlag {
+
+    private static final Map<Class<?>, EventFlag> BY_TYPE;
+    private static final Map<String, EventFlag> BY_NAME;
+
+    static {
+        final Map<Class<?>, EventFlag> byType = new IdentityHashMap<>();
+        final Map<String, EventFlag> byName = new HashMap<>();
+        for (final Method method : SpongeEventFactory.class.getMethods()) {
+            if (!Event.class.isAssignableFrom(method.getReturnType())) {
+                continue;
+            }
+            // SpongeEventFactory only creates the most specific events, so walk
+            // up to cover the abstract events they belong to as well.
+            Types.allSuperTypesAndInterfaces(method.getGenericReturnType())
+                .map(GenericTypeReflector::erase)
+                .filter(type -> type.isInterface() && Event.class.isAssignableFrom(type))
+                .forEach(type -> byType.computeIfAbsent(type, k -> {
+                    final EventFlag flag = new EventFlag(k);
+                    byName.putIfAbsent(flag.name, flag);
+                    return flag;
+                }));
+        }
+        BY_TYPE = byType;
+        BY_NAME = byName;
+    }
+
+    private final Class<?> type;
+    private final String name;
+    private volatile boolean fire;
+
+    private EventFlag(final Class<?> type) {
+        this.type = type;
+        this.name = EventFlag.nameOf(type);
+    }
+
+    /**
+     * Gets the flag for the given event interface.
+     *
+     * @param type The event interface
+     * @return The flag
+     * @throws IllegalArgumentException If the type is not part of the API event hierarchy
+     */
+    public static EventFlag of(final Class<? extends Event> type) {
+        final EventFlag flag = EventFlag.BY_TYPE.get(type);
+        if (flag == null) {
+            throw new IllegalArgumentException(type + " is not an event interface known to SpongeEventFactory");
+        }
+        return flag;
+    }
+
+    static @Nullable EventFlag named(final String name) {
+        return EventFlag.BY_NAME.get(name);
+    }
+
+    static Collection<EventFlag> all() {
+        return Collections.unmodifiableCollection(EventFlag.BY_TYPE.values());
+    }
+
+    static String nameOf(final Class<?> type) {
+        // Properly account for inner classes. Class#getName uses a $
+        // to separate inner classes, so the last '.' is the end of the package name
+        final String name = type.getName().substring(type.getName().lastIndexOf(".") + 1).replace("$", "");
+        return CaseFormat.UPPER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, name);
+    }
+
+    public boolean shouldFire() {
+        return this.fire;
+    }
+
+    public Class<?> type() {
+        return this.type;
+    }
+
+    public String name() {
+        return this.name;
+    }
+
+    void set(final boolean fire) {
+        this.fire = fire;
+    }
+
+    @Override
+    public String toString() {
+        return "EventFlag[" + this.name + "=" + this.fire + "]";
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.ATHROW;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.PUTSTATIC;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V11;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.common.event.gen.LoaderClassWriter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a {@link ListenerChain} for a baked list of listeners.
+ *
+ * <p>Every listener and its underlying {@link EventListener} are stored in
+ * static final fields of a hidden class. The generated {@code dispatch}
+ * method calls each {@link EventListener#handle(Event)} itself, so each call
+ * site has a constant, monomorphic receiver the JIT can inline through. Only
+ * pushing and popping the cause frame around each listener is shared with
+ * {@link SpongeEventManager#dispatch}.</p>
+ */
+final class ListenerChainFactory {
+
+    private static final String CHAIN_NAME = Type.getInternalName(ListenerChain.class) + "$Generated";
+    private static final String BASE_CHAIN = Type.getInternalName(ListenerChain.class);
+    private static final String EVENT_MANAGER = Type.getInternalName(SpongeEventManager.class);
+    private static final String LISTENER_FRAME = Type.getInternalName(SpongeEventManager.ListenerFrame.class);
+    private static final String LISTENER_PROFILER = Type.getInternalName(ListenerProfiler.class);
+    private static final String EVENT_LISTENER = Type.getInternalName(EventListener.class);
+    private static final String THROWABLE_DESCRIPTOR = Type.getDescriptor(Throwable.class);
+    private static final String REGISTERED_LISTENER_DESCRIPTOR = Type.getDescriptor(RegisteredListener.class);
+    private static final String EVENT_LISTENER_DESCRIPTOR = Type.getDescriptor(EventListener.class);
+    private static final String EVENT_DESCRIPTOR = Type.getDescriptor(Event.class);
+    private static final String DISPATCH_DESCRIPTOR = '(' + ListenerChainFactory.EVENT_DESCRIPTOR + ")Z";
+    private static final String ENTER_DESCRIPTOR = '(' + ListenerChainFactory.EVENT_DESCRIPTOR
+        + ListenerChainFactory.REGISTERED_LISTENER_DESCRIPTOR + ")L" + ListenerChainFactory.LISTENER_FRAME + ';';
+    private static final String CLOSE_FAILED_DESCRIPTOR = "(L" + ListenerChainFactory.LISTENER_FRAME + ';'
+        + ListenerChainFactory.THROWABLE_DESCRIPTOR + ')' + ListenerChainFactory.THROWABLE_DESCRIPTOR;
+    private static final String FAILED_DESCRIPTOR = '(' + ListenerChainFactory.EVENT_DESCRIPTOR
+        + ListenerChainFactory.REGISTERED_LISTENER_DESCRIPTOR + ListenerChainFactory.THROWABLE_DESCRIPTOR + ")V";
+    private static final String PROFILE_DESCRIPTOR = '(' + ListenerChainFactory.REGISTERED_LISTENER_DESCRIPTOR
+        + ListenerChainFactory.EVENT_LISTENER_DESCRIPTOR + ListenerChainFactory.EVENT_DESCRIPTOR + ")V";
+    private static final String HANDLE_DESCRIPTOR = '(' + ListenerChainFactory.EVENT_DESCRIPTOR + ")V";
+    private static final String COMPLETE_DESCRIPTOR = '(' + ListenerChainFactory.EVENT_DESCRIPTOR + ")Z";
+    private static final String CLASS_DATA_AT_DESCRIPTOR = "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;I)Ljava/lang/Object;";
+
+    private ListenerChainFactory() {
+    }
+
+    static ListenerChain create(final List<RegisteredListener<?>> listeners) throws Throwable {
+        final List<Object> classData = new ArrayList<>(listeners.size() * 2);
+        for (final RegisteredListener<?> listener : listeners) {
+            classData.add(listener);
+            classData.add(listener.getListener());
+        }
+        final MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClassWithClassData(
+            ListenerChainFactory.generateClass(listeners.size()),
+            classData,
+            true
+        );
+        return (ListenerChain) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+    }
+
+    private static String registeredField(final int index) {
+        return "registered" + index;
+    }
+
+    private static String listenerField(final int index) {
+        return "listener" + index;
+    }
+
+    private static byte[] generateClass(final int size) {
+        final String name = ListenerChainFactory.CHAIN_NAME;
+        final ClassWriter cw = new LoaderClassWriter(ListenerChain.class.getClassLoader(), ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V11, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, ListenerChainFactory.BASE_CHAIN, null);
+        for (int i = 0; i < size; i++) {
+            cw.visitField(ACC_PRIVATE + ACC_STATIC + ACC_FINAL, ListenerChainFactory.registeredField(i),
+                ListenerChainFactory.REGISTERED_LISTENER_DESCRIPTOR, null, null).visitEnd();
+            cw.visitField(ACC_PRIVATE + ACC_STATIC + ACC_FINAL, ListenerChainFactory.listenerField(i),
+                ListenerChainFactory.EVENT_LISTENER_DESCRIPTOR, null, null).visitEnd();
+        }
+        {
+            // static final fields are populated from the class data, which makes them trusted constants
+            mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+            mv.visitCode();
+            for (int i = 0; i < size; i++) {
+                ListenerChainFactory.visitClassDataAt(mv, 2 * i, RegisteredListener.class);
+                mv.visitFieldInsn(PUTSTATIC, name, ListenerChainFactory.registeredField(i), ListenerChainFactory.REGISTERED_LISTENER_DESCRIPTOR);
+                ListenerChainFactory.visitClassDataAt(mv, 2 * i + 1, EventListener.class);
+                mv.visitFieldInsn(PUTSTATIC, name, ListenerChainFactory.listenerField(i), ListenerChainFactory.EVENT_LISTENER_DESCRIPTOR);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, ListenerChainFactory.BASE_CHAIN, "<init>", "()V", false);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "dispatch", ListenerChainFactory.DISPATCH_DESCRIPTOR, null, null);
+            mv.visitCode();
+            for (int i = 0; i < size; i++) {
+                ListenerChainFactory.visitListener(mv, name, i);
+            }
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESTATIC, ListenerChainFactory.EVENT_MANAGER, "completeDispatch", ListenerChainFactory.COMPLETE_DESCRIPTOR, false);
+            mv.visitInsn(IRETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    /**
+     * Visits the equivalent of {@link SpongeEventManager#dispatch} for the
+     * listener at the given index, with the event in local 1:
+     *
+     * <pre>
+     * try (final ListenerFrame frame = SpongeEventManager.enterListener(event, registeredN)) {
+     *     if (ListenerProfiler.isEnabled()) {
+     *         ListenerProfiler.handle(registeredN, listenerN, event);
+     *     } else {
+     *         listenerN.handle(event);
+     *     }
+     * } catch (final Throwable e) {
+     *     SpongeEventManager.listenerFailed(event, registeredN, e);
+     * }
+     * </pre>
+     */
+    private static void visitListener(final MethodVisitor mv, final String name, final int index) {
+        final String registered = ListenerChainFactory.registeredField(index);
+        final String listener = ListenerChainFactory.listenerField(index);
+        final Label start = new Label();
+        final Label bodyStart = new Label();
+        final Label bodyEnd = new Label();
+        final Label direct = new Label();
+        final Label bodyFailed = new Label();
+        final Label end = new Label();
+        final Label failed = new Label();
+        final Label next = new Label();
+        // The handler closing the frame is looked up first, its rethrow ends up in the outer one
+        mv.visitTryCatchBlock(bodyStart, bodyEnd, bodyFailed, Type.getInternalName(Throwable.class));
+        mv.visitTryCatchBlock(start, end, failed, Type.getInternalName(Throwable.class));
+
+        mv.visitLabel(start);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitFieldInsn(GETSTATIC, name, registered, ListenerChainFactory.REGISTERED_LISTENER_DESCRIPTOR);
+        mv.visitMethodInsn(INVOKESTATIC, ListenerChainFactory.EVENT_MANAGER, "enterListener", ListenerChainFactory.ENTER_DESCRIPTOR, false);
+        mv.visitVarInsn(ASTORE, 2);
+        mv.visitLabel(bodyStart);
+        mv.visitMethodInsn(INVOKESTATIC, ListenerChainFactory.LISTENER_PROFILER, "isEnabled", "()Z", false);
+        mv.visitJumpInsn(IFEQ, direct);
+        mv.visitFieldInsn(GETSTATIC, name, registered, ListenerChainFactory.REGISTERED_LISTENER_DESCRIPTOR);
+        mv.visitFieldInsn(GETSTATIC, name, listener, ListenerChainFactory.EVENT_LISTENER_DESCRIPTOR);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitMethodInsn(INVOKESTATIC, ListenerChainFactory.LISTENER_PROFILER, "handle", ListenerChainFactory.PROFILE_DESCRIPTOR, false);
+        mv.visitJumpInsn(GOTO, bodyEnd);
+        mv.visitLabel(direct);
+        mv.visitFieldInsn(GETSTATIC, name, listener, ListenerChainFactory.EVENT_LISTENER_DESCRIPTOR);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitMethodInsn(INVOKEINTERFACE, ListenerChainFactory.EVENT_LISTENER, "handle", ListenerChainFactory.HANDLE_DESCRIPTOR, true);
+        mv.visitLabel(bodyEnd);
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitMethodInsn(INVOKEVIRTUAL, ListenerChainFactory.LISTENER_FRAME, "close", "()V", false);
+        mv.visitJumpInsn(GOTO, next);
+        mv.visitLabel(bodyFailed);
+        mv.visitVarInsn(ASTORE, 3);
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitMethodInsn(INVOKESTATIC, ListenerChainFactory.EVENT_MANAGER, "closeFailed", ListenerChainFactory.CLOSE_FAILED_DESCRIPTOR, false);
+        mv.visitInsn(ATHROW);
+        mv.visitLabel(end);
+        mv.visitLabel(failed);
+        mv.visitVarInsn(ASTORE, 3);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitFieldInsn(GETSTATIC, name, registered, ListenerChainFactory.REGISTERED_LISTENER_DESCRIPTOR);
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitMethodInsn(INVOKESTATIC, ListenerChainFactory.EVENT_MANAGER, "listenerFailed", ListenerChainFactory.FAILED_DESCRIPTOR, false);
+        mv.visitLabel(next);
+    }
+
+    private static void visitClassDataAt(final MethodVisitor mv, final int index, final Class<?> type) {
+        mv.visitMethodInsn(INVOKESTATIC, "java/lang/invoke/MethodHandles", "lookup", "()Ljava/lang/invoke/MethodHandles$Lookup;", false);
+        mv.visitLdcInsn("_");
+        mv.visitLdcInsn(Type.getType(type));
+        mv.visitLdcInsn(index);
+        mv.visitMethodInsn(INVOKESTATIC, "java/lang/invoke/MethodHandles", "classDataAt", ListenerChainFactory.CLASS_DATA_AT_DESCRIPTOR, false);
+        mv.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+    }
+
+}
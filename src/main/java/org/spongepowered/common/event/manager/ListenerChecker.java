@@ -24,16 +24,15 @@
  */
 package org.spongepowered.common.event.manager;
 
-import com.google.common.base.CaseFormat;
 import io.leangen.geantyref.GenericTypeReflector;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.spongepowered.api.event.SpongeEventFactory;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.event.tracking.TrackerTuner;
 import org.spongepowered.configurate.util.Types;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
@@ -48,70 +47,53 @@ public final class ListenerChecker {
     private static final Logger LOGGER = LogManager.getLogger();
 
     private final Class<?> clazz;
-    private Map<String, FieldData> fields = new HashMap<>();
-    private Map<Class<?>, FieldData> fieldClassMap = new IdentityHashMap<>();
-
-    private static String getName(Class<?> clazz) {
-        // Properly account for inner classes. Class#getName uses a $
-        // to separate inner classes, so the last '.' is the end of the package name
-        //
-        String name = clazz.getName().substring(clazz.getName().lastIndexOf(".") + 1).replace("$", "");
-        return CaseFormat.UPPER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, name);
-    }
+    private Map<String, FlagData> fields = new HashMap<>();
+    // One entry for every EventFlag, some of which are also backed by a ShouldFire field
+    private Map<Class<?>, FlagData> flagClassMap = new IdentityHashMap<>();
 
     public ListenerChecker(Class<?> clazz) {
         this.clazz = clazz;
+        for (final EventFlag flag : EventFlag.all()) {
+            this.flagClassMap.put(flag.type(), new FlagData(flag));
+        }
         for (Field field: this.clazz.getDeclaredFields()) {
             if (Modifier.isStatic(field.getModifiers()) && Modifier.isPublic(field.getModifiers())) {
-                FieldData data = new FieldData(field);
-                this.fieldClassMap.put(this.getClassForField(field), data);
+                FlagData data = this.getDataForField(field);
+                data.field = field;
                 this.fields.put(field.getName(), data);
-                if (ListenerChecker.ALL_TRUE) {
-                    if (ListenerChecker.DEBUG) {
-                        ListenerChecker.LOGGER.debug("Forcing field {} to true!", field.getName());
-                    }
-                    try {
-                        field.set(null, true);
-                    } catch (IllegalAccessException e) {
-                        ListenerChecker.LOGGER.error("Error setting field {} to true", field.getName(), e);
-                    }
-                }
             } else {
                 throw new IllegalStateException(String.format("ShouldFire field %s must be public and static!", field));
             }
         }
+        if (ListenerChecker.ALL_TRUE) {
+            for (final FlagData data : this.flagClassMap.values()) {
+                if (ListenerChecker.DEBUG) {
+                    ListenerChecker.LOGGER.debug("Forcing flag {} to true!", data.flag.name());
+                }
+                data.set(true);
+            }
+        }
     }
 
     public <T> void registerListenerFor(Class<T> eventClass) {
         this.updateFields(eventClass, true);
+        TrackerTuner.onListenerRegistered();
     }
 
     public <T> void unregisterListenerFor(Class<T> eventClass) {
         this.updateFields(eventClass, false);
     }
 
-    private Class<?> getClassForField(final Field field) {
-        final String name = field.getName();
-
-        final Method[] methods = SpongeEventFactory.class.getMethods();
-        for (final Method eventMethod : methods) {
-            // Not all fields will directly correspond to an event in SpongeEventFactory.
-            // For example, SpongeEventFactory has no method to create a ChangeBlockEvent,
-            // (only methods for its subtypes), but ShouldFire.CHANGE_BLOCK_EVENT exists, and is valid
-            // Therefore, we check all superinterfaces of each listed event.
-            final Class<?> possibleType = Types.allSuperTypesAndInterfaces(eventMethod.getGenericReturnType())
-                    .map(GenericTypeReflector::erase)
-                    .filter(eventType -> {
-                        final String eventMethodName = ListenerChecker.getName(eventType);
-                        return name.equals(eventMethodName);
-                    })
-                    .findFirst().orElse(null);
-
-            if (possibleType != null) {
-                return possibleType;
-            }
+    private FlagData getDataForField(final Field field) {
+        // Not all fields will directly correspond to an event in SpongeEventFactory.
+        // For example, SpongeEventFactory has no method to create a ChangeBlockEvent,
+        // (only methods for its subtypes), but ShouldFire.CHANGE_BLOCK_EVENT exists, and is valid.
+        // EventFlag already covers all superinterfaces of each listed event.
+        final @Nullable EventFlag flag = EventFlag.named(field.getName());
+        if (flag == null) {
+            throw new IllegalStateException(String.format("ShouldFire field %s does not correspond to any SpongeAPI event! Check that the field is written in UPPER_CASE_UNDERSCORE format.", field));
         }
-        throw new IllegalStateException(String.format("ShouldFire field %s does not correspond to any SpongeAPI event! Check that the field is written in UPPER_CASE_UNDERSCORE format.", field));
+        return this.flagClassMap.get(flag.type());
     }
 
     public <T> void updateFields(Class<? super T> eventClass, boolean registering) {
@@ -141,7 +123,7 @@ public <T> void updateFields(Class<? super T> eventClass, boolean registering) {
                 .filter(c -> c != eventClass)
                 .collect(Collectors.toCollection(ReferenceOpenHashSet::new));
 
-        for (final Map.Entry<Class<?>, FieldData> entry: this.fieldClassMap.entrySet()) {
+        for (final Map.Entry<Class<?>, FlagData> entry: this.flagClassMap.entrySet()) {
 
             // We check for two things:
 
@@ -174,12 +156,13 @@ public <T> void updateFields(Class<? super T> eventClass, boolean registering) {
         }
     }
 
-    private static class FieldData {
-        Field field;
+    private static final class FlagData {
+        final EventFlag flag;
+        @Nullable Field field;
         int listenerCount = 0;
 
-        FieldData(Field field) {
-            this.field = field;
+        FlagData(EventFlag flag) {
+            this.flag = flag;
         }
 
         void update(boolean increment) {
@@ -189,14 +172,21 @@ void update(boolean increment) {
                 this.listenerCount--;
             }
             if (this.listenerCount < 0) {
-                ListenerChecker.LOGGER.error("Decremented listener count to {} for field {}", this.listenerCount, this.field, new Exception("Dummy exception"));
+                ListenerChecker.LOGGER.error("Decremented listener count to {} for flag {}", this.listenerCount, this.flag.name(), new Exception("Dummy exception"));
             }
             boolean val = this.listenerCount > 0;
 
             if (ListenerChecker.DEBUG) {
-                ListenerChecker.LOGGER.debug("Updating field {} with value {}", this.field, val);
+                ListenerChecker.LOGGER.debug("Updating flag {} with value {}", this.flag.name(), val);
             }
+            this.set(val);
+        }
 
+        void set(boolean val) {
+            this.flag.set(val);
+            if (this.field == null) {
+                return;
+            }
             try {
                 this.field.set(null, val);
             } catch (IllegalAccessException e) {
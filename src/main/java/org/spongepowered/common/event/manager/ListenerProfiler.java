@@ -0,0 +1,162 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.common.util.Timings;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in profiler recording the invocation count, time and, where the JVM
+ * supports it, allocated bytes of every {@link RegisteredListener}.
+ *
+ * <p>The counters live on each listener, so nothing is allocated on the post
+ * path whether or not the profiler is enabled.</p>
+ */
+public final class ListenerProfiler {
+
+    private static final com.sun.management.@Nullable ThreadMXBean ALLOCATION_BEAN = ListenerProfiler.allocationBean();
+
+    private static volatile boolean enabled;
+    private static volatile long startedAt;
+
+    private ListenerProfiler() {
+    }
+
+    private static com.sun.management.@Nullable ThreadMXBean allocationBean() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            return (com.sun.management.ThreadMXBean) bean;
+        }
+        return null;
+    }
+
+    public static boolean isEnabled() {
+        return ListenerProfiler.enabled;
+    }
+
+    public static boolean supportsAllocations() {
+        return ListenerProfiler.ALLOCATION_BEAN != null && ListenerProfiler.ALLOCATION_BEAN.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Resets the counters of all listeners and starts recording.
+     *
+     * @param listeners The currently registered listeners
+     */
+    public static void start(final List<RegisteredListener<?>> listeners) {
+        for (final RegisteredListener<?> listener : listeners) {
+            listener.getTimings().reset();
+        }
+        ListenerProfiler.startedAt = System.nanoTime();
+        ListenerProfiler.enabled = true;
+    }
+
+    public static void stop() {
+        ListenerProfiler.enabled = false;
+    }
+
+    /**
+     * Gets the listeners that were invoked at least once, ordered by their
+     * total time spent, highest first.
+     *
+     * @param listeners The currently registered listeners
+     * @return The sorted listeners
+     */
+    public static List<RegisteredListener<?>> sorted(final List<RegisteredListener<?>> listeners) {
+        return Timings.sorted(
+            listeners.stream().filter(listener -> listener.getTimings().count() > 0).toList(),
+            listener -> listener.getTimings().totalNanos()
+        );
+    }
+
+    public static String describe(final RegisteredListener<?> listener) {
+        return listener.getPlugin().metadata().id() + " " + listener.getName()
+            + " (" + listener.getEventType() + ", " + listener.getOrder() + ")";
+    }
+
+    /**
+     * Writes the timings of every invoked listener to a file in the
+     * {@code dumps} directory.
+     *
+     * @param listeners The currently registered listeners
+     * @return The path of the written file
+     * @throws IOException If the file could not be written
+     */
+    public static Path dump(final List<RegisteredListener<?>> listeners) throws IOException {
+        return Timings.dump("event-profile", "event listener timings", ListenerProfiler.startedAt,
+            "listener\tinvocations\ttotal-ns\tmean-ns\tmax-ns\tallocated-bytes", ListenerProfiler.sorted(listeners), listener -> {
+                final ListenerTimings timings = listener.getTimings();
+                return ListenerProfiler.describe(listener) + '\t' + timings.count() + '\t' + timings.totalNanos() + '\t'
+                    + timings.meanNanos() + '\t' + timings.maxNanos() + '\t' + timings.allocatedBytes();
+            });
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static void handle(final RegisteredListener<?> handler, final EventListener listener, final Event event) throws Exception {
+        final com.sun.management.@Nullable ThreadMXBean bean = ListenerProfiler.ALLOCATION_BEAN;
+        final long allocatedBefore = bean == null ? 0 : bean.getCurrentThreadAllocatedBytes();
+        final long start = System.nanoTime();
+        try {
+            listener.handle(event);
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            final long allocated = bean == null ? 0 : bean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+            handler.getTimings().record(elapsed, allocated);
+        }
+    }
+
+    public static final class ListenerTimings extends Timings {
+
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        void record(final long nanos, final long allocated) {
+            this.record(nanos);
+            if (allocated > 0) {
+                this.allocatedBytes.add(allocated);
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            this.allocatedBytes.reset();
+        }
+
+        public long allocatedBytes() {
+            return this.allocatedBytes.sum();
+        }
+
+    }
+
+}
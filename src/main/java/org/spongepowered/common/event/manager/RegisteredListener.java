@@ -25,9 +25,12 @@
 package org.spongepowered.common.event.manager;
 
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.common.applaunch.config.common.EventManagerCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.event.SpongeEventListener;
 import org.spongepowered.plugin.PluginContainer;
 
@@ -45,16 +48,32 @@
     private final Order order;
 
     private final EventListener<? super T> listener;
+    private final String name;
 
     private final boolean beforeModifications;
 
+    private final @Nullable SubtypeFilter subtypeFilter;
+
+    private final @Nullable AsyncListenerLane asyncLane;
+
+    private final ListenerProfiler.ListenerTimings timings = new ListenerProfiler.ListenerTimings();
+
     RegisteredListener(
-            final PluginContainer plugin, final EventType<T> eventType, final Order order, final EventListener<? super T> listener, final boolean beforeModifications) {
+            final PluginContainer plugin, final EventType<T> eventType, final Order order, final EventListener<? super T> listener,
+            final String name, final boolean beforeModifications, final @Nullable SubtypeFilter subtypeFilter, final boolean async) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
         this.eventType = Objects.requireNonNull(eventType, "eventType");
         this.order = Objects.requireNonNull(order, "order");
         this.listener = Objects.requireNonNull(listener, "listener");
+        this.name = Objects.requireNonNull(name, "name");
         this.beforeModifications = beforeModifications;
+        this.subtypeFilter = subtypeFilter;
+        if (async) {
+            final EventManagerCategory config = SpongeConfigs.getCommon().get().eventManager;
+            this.asyncLane = new AsyncListenerLane(this, config.asyncListenerQueueSize, config.asyncListenerMaxWait);
+        } else {
+            this.asyncLane = null;
+        }
     }
 
     public PluginContainer getPlugin() {
@@ -73,6 +92,70 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    /**
+     * Gets the name of the listener, the class and method name of annotated
+     * listeners and the class name of any other.
+     *
+     * @return The name of the listener
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    public ListenerProfiler.ListenerTimings getTimings() {
+        return this.timings;
+    }
+
+    EventListener<? super T> getListener() {
+        return this.listener;
+    }
+
+    /**
+     * Gets whether this listener can receive events of the given concrete
+     * class, according to its {@link SubtypeFilter}.
+     *
+     * @param eventClass The concrete event class
+     * @return Whether the event class passes the subtype filter
+     */
+    boolean acceptsSubtype(final Class<?> eventClass) {
+        return this.subtypeFilter == null || this.subtypeFilter.test(eventClass);
+    }
+
+    /**
+     * Gets whether this listener was configured to be passed events off the
+     * posting thread. Whether it actually is depends on the event, see
+     * {@link SpongeEventManager#canPostAsync(Class)}.
+     *
+     * @return Whether this listener is async
+     */
+    public boolean isAsync() {
+        return this.asyncLane != null;
+    }
+
+    /**
+     * Gets the number of events waiting to be passed to this listener if it
+     * is async, otherwise zero.
+     *
+     * @return The number of queued events
+     */
+    public int queuedAsyncEvents() {
+        return this.asyncLane == null ? 0 : this.asyncLane.queued();
+    }
+
+    /**
+     * Gets the number of events dropped for this listener because its queue
+     * was full, if it is async, otherwise zero.
+     *
+     * @return The number of dropped events
+     */
+    public long droppedAsyncEvents() {
+        return this.asyncLane == null ? 0 : this.asyncLane.dropped();
+    }
+
+    void postAsync(final Event event) {
+        Objects.requireNonNull(this.asyncLane, "asyncLane").offer(event);
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -98,9 +181,18 @@ public static final class Cache {
         private final List<RegisteredListener<?>> beforeModifications = new ArrayList<>();
         private final List<RegisteredListener<?>> afterModifications = new ArrayList<>();
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        private final @Nullable ListenerChain chain;
+        private final List<RegisteredListener<?>> asyncListeners;
 
         Cache(final List<RegisteredListener<?>> listeners) {
+            this(listeners, null, Collections.emptyList());
+        }
+
+        Cache(final List<RegisteredListener<?>> listeners, final @Nullable ListenerChain chain,
+                final List<RegisteredListener<?>> asyncListeners) {
             this.listeners = listeners;
+            this.chain = chain;
+            this.asyncListeners = asyncListeners;
 
             this.listenersByOrder = new EnumMap<>(Order.class);
             for (final RegisteredListener<?> handler : listeners) {
@@ -118,6 +210,26 @@ public List<RegisteredListener<?>> getListeners() {
             return this.listeners;
         }
 
+        /**
+         * Gets the generated dispatcher for all {@link #getListeners() listeners},
+         * if one was generated when this cache was baked.
+         *
+         * @return The generated chain, or null
+         */
+        public @Nullable ListenerChain getChain() {
+            return this.chain;
+        }
+
+        /**
+         * Gets the listeners that are passed the event off the posting
+         * thread, once all {@link #getListeners() listeners} handled it.
+         *
+         * @return The async listeners
+         */
+        public List<RegisteredListener<?>> getAsyncListeners() {
+            return this.asyncListeners;
+        }
+
         public List<RegisteredListener<?>> getListenersByOrder(final Order order) {
             final List<RegisteredListener<?>> list = this.listenersByOrder.get(Objects.requireNonNull(order, "order"));
             if (list == null) {
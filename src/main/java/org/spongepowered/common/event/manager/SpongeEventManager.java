@@ -43,7 +43,10 @@
 import org.spongepowered.api.event.Order;
 import org.spongepowered.api.event.impl.AbstractEvent;
 import org.spongepowered.api.event.item.inventory.container.InteractContainerEvent;
+import org.spongepowered.api.event.lifecycle.LifecycleEvent;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.EventManagerCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.world.inventory.container.ContainerBridge;
 import org.spongepowered.common.event.ListenerLookups;
 import org.spongepowered.common.event.ShouldFire;
@@ -73,7 +76,6 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public abstract class SpongeEventManager implements EventManager {
 
@@ -84,18 +86,34 @@ public abstract class SpongeEventManager implements EventManager {
     private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent;
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Only the entries whose event type hierarchy contains the raw type of
+     * an added or removed handler are invalidated.</p>
      */
     protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    /**
+     * The erased event super types of every event class that has been baked,
+     * used both for baking and for targeted invalidation of the
+     * {@link #handlersCache}.
+     */
+    private final Map<Class<?>, EventHierarchy> hierarchies = new ConcurrentHashMap<>(150, 0.75f, 1);
     private final Set<Object> registeredListeners;
+    private final boolean generatedDispatchers;
+    private final int generatedDispatcherMaxListeners;
+    private final Set<String> asyncListeners;
 
     public SpongeEventManager() {
+        this(SpongeConfigs.getCommon().get().eventManager);
+    }
+
+    protected SpongeEventManager(final EventManagerCategory config) {
         this.lock = new Object();
         this.handlersByEvent = HashMultimap.create();
         this.registeredListeners = new ReferenceOpenHashSet<>();
         this.checker = new ListenerChecker(ShouldFire.class);
+        this.generatedDispatchers = config.generatedDispatchers;
+        this.generatedDispatcherMaxListeners = config.generatedDispatcherMaxListeners;
+        this.asyncListeners = Set.copyOf(config.asyncListeners);
 
         // Caffeine offers no control over the concurrency level of the
         // ConcurrentHashMap which backs the cache. By default this concurrency
@@ -150,76 +168,156 @@ public SpongeEventManager() {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
-            final Order order, final boolean beforeModifications, final EventListener<? super T> handler) {
+            final Order order, final boolean beforeModifications, final EventListener<? super T> handler, final String name,
+            final @Nullable SubtypeFilter subtypeFilter, final boolean async) {
         @Nullable Type genericType = null;
         final Class<?> erased = GenericTypeReflector.erase(eventType);
         if (GenericEvent.class.isAssignableFrom(erased)) {
             genericType = TypeTokenUtil.typeArgumentFromSupertype(eventType, GenericEvent.class, 0);
         }
-        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications);
+        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, name, beforeModifications, subtypeFilter,
+            async);
+    }
+
+    /**
+     * Gets whether the listener has been configured to be passed events
+     * asynchronously, either for its whole plugin, its class or the method
+     * itself.
+     *
+     * @param plugin The plugin of the listener
+     * @param listenerClass The class of the listener
+     * @param methodName The name of the listener method, if any
+     * @return Whether the listener is async
+     */
+    private boolean isAsyncListener(final PluginContainer plugin, final Class<?> listenerClass, final @Nullable String methodName) {
+        if (this.asyncListeners.isEmpty()) {
+            return false;
+        }
+        final String id = plugin.metadata().id();
+        final String classEntry = id + ':' + listenerClass.getName();
+        return this.asyncListeners.contains(id) || this.asyncListeners.contains(classEntry)
+            || methodName != null && this.asyncListeners.contains(classEntry + '#' + methodName);
+    }
+
+    /**
+     * Gets whether events of the given class may be passed to async
+     * listeners. Listeners of cancellable events may affect their outcome
+     * and lifecycle events are expected to be fully handled when they are
+     * posted, so those are always passed on the posting thread.
+     *
+     * @param eventClass The event class
+     * @return Whether the event may be passed asynchronously
+     */
+    static boolean canPostAsync(final Class<?> eventClass) {
+        return !Cancellable.class.isAssignableFrom(eventClass) && !LifecycleEvent.class.isAssignableFrom(eventClass);
+    }
+
+    private EventHierarchy hierarchy(final Class<?> eventClass) {
+        return this.hierarchies.computeIfAbsent(eventClass, EventHierarchy::new);
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> eventType) {
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
-        final Stream<? extends Class<?>> types = Types.allSuperTypesAndInterfaces(eventType.getType())
-                .map(GenericTypeReflector::erase)
-                .filter(Event.class::isAssignableFrom);
+        final Class<T> eventClass = eventType.getType();
+        final List<Class<?>> types = this.hierarchy(eventClass).types;
 
-        // TODO: Move @Includes and @Excludes from filters to the baking process, this simplifies the generated
-        //       filter code and makes the filter baking target more specific handlers.
         synchronized (this.lock) {
-            for (final Iterator<? extends Class<?>> it = types.iterator(); it.hasNext(); ) {
-                final Class<?> type = it.next();
+            for (final Class<?> type : types) {
                 final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
                 if (GenericEvent.class.isAssignableFrom(type)) {
                     final Type genericType = Objects.requireNonNull(eventType.getGenericType());
                     for (final RegisteredListener<?> listener : listeners) {
                         final Type genericType1 = Objects.requireNonNull(listener.getEventType().getGenericType());
-                        if (TypeTokenUtil.isAssignable(genericType, genericType1)) {
+                        if (TypeTokenUtil.isAssignable(genericType, genericType1) && listener.acceptsSubtype(eventClass)) {
                             handlers.add(listener);
                         }
                     }
                 } else {
-                    handlers.addAll(listeners);
+                    for (final RegisteredListener<?> listener : listeners) {
+                        if (listener.acceptsSubtype(eventClass)) {
+                            handlers.add(listener);
+                        }
+                    }
                 }
             }
         }
 
         Collections.sort(handlers);
-        return new RegisteredListener.Cache(handlers);
+        if (!SpongeEventManager.canPostAsync(eventClass)) {
+            return new RegisteredListener.Cache(handlers, this.generateChain(eventType, handlers), Collections.emptyList());
+        }
+        final List<RegisteredListener<?>> async = new ArrayList<>();
+        handlers.removeIf(listener -> listener.isAsync() && async.add(listener));
+        return new RegisteredListener.Cache(handlers, this.generateChain(eventType, handlers), async);
+    }
+
+    private @Nullable ListenerChain generateChain(final EventType<?> eventType, final List<RegisteredListener<?>> handlers) {
+        if (!this.generatedDispatchers || handlers.isEmpty() || handlers.size() > this.generatedDispatcherMaxListeners) {
+            return null;
+        }
+        try {
+            return ListenerChainFactory.create(handlers);
+        } catch (final Throwable thr) {
+            SpongeCommon.logger().warn("Failed to generate a listener chain for {}, falling back to iteration", eventType, thr);
+            return null;
+        }
+    }
+
+    /**
+     * Invalidates the cached handlers of every baked event type which is a
+     * subtype of one of the given raw listener types. Event types that are
+     * unrelated to the changed listeners keep their baked handlers.
+     *
+     * @param changed The raw event types of the added or removed listeners
+     */
+    private void invalidateHandlers(final Set<Class<?>> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        final List<EventType<?>> stale = new ArrayList<>();
+        for (final EventType<?> eventType : this.handlersCache.asMap().keySet()) {
+            final Set<Class<?>> types = this.hierarchy(eventType.getType()).lookup;
+            for (final Class<?> raw : changed) {
+                if (types.contains(raw)) {
+                    stale.add(eventType);
+                    break;
+                }
+            }
+        }
+        if (!stale.isEmpty()) {
+            this.handlersCache.invalidateAll(stale);
+        }
     }
 
     private void register(final List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
+        final Set<Class<?>> changed = new ReferenceOpenHashSet<>();
 
         synchronized (this.lock) {
             for (final RegisteredListener<?> handler : handlers) {
                 final Class<?> raw = handler.getEventType().getType();
                 if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
+                    changed.add(raw);
                     this.checker.registerListenerFor(raw);
                 }
             }
         }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
-        }
+        this.invalidateHandlers(changed);
     }
 
     private void register(final RegisteredListener<? extends Event> handler) {
-        boolean changed = false;
+        final Class<?> raw = handler.getEventType().getType();
+        final boolean changed;
 
         synchronized (this.lock) {
-            final Class<?> raw = handler.getEventType().getType();
-            if (this.handlersByEvent.put(raw, handler)) {
-                changed = true;
+            changed = this.handlersByEvent.put(raw, handler);
+            if (changed) {
                 this.checker.registerListenerFor(raw);
             }
         }
 
         if (changed) {
-            this.handlersCache.invalidateAll();
+            this.invalidateHandlers(Collections.singleton(raw));
         }
     }
 
@@ -259,7 +357,9 @@ private void registerListener(final PluginContainer plugin, final Object listene
                 if (error == null) {
                     final Type eventType = method.parameterTypes()[0].genericType();
                     final AnnotatedEventListener handler;
+                    final @Nullable SubtypeFilter subtypeFilter;
                     try {
+                        subtypeFilter = SubtypeFilter.of(method);
                         handler = handlerFactory.create(listenerObject, method, lookup);
                     } catch (final Throwable thr) {
                         SpongeCommon.logger().error("Failed to create handler for {} on {}", method, handle, thr);
@@ -267,7 +367,8 @@ private void registerListener(final PluginContainer plugin, final Object listene
                     }
 
                     handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listener.order(), listener.beforeModifications(),
-                        handler));
+                        handler, method.declaringClass().getName() + '#' + method.methodName(), subtypeFilter,
+                        this.isAsyncListener(plugin, method.declaringClass(), method.methodName())));
                 } else {
                     methodErrors.put(method, error);
                 }
@@ -317,7 +418,9 @@ private void registerListener(final PluginContainer plugin, final Object listene
     public <E extends Event> EventManager registerListener(final EventListenerRegistration<E> registration) {
         Objects.requireNonNull(registration, "registration");
         final RegisteredListener<E> handler = SpongeEventManager.createRegistration(registration.plugin(),
-                registration.eventType(), registration.order(), registration.beforeModifications(), registration.listener());
+                registration.eventType(), registration.order(), registration.beforeModifications(), registration.listener(),
+                registration.listener().getClass().getName(), null,
+                this.isAsyncListener(registration.plugin(), registration.listener().getClass(), null));
         this.register(handler);
         return this;
     }
@@ -345,7 +448,7 @@ public SpongeEventManager registerListeners(final PluginContainer plugin, final
     }
 
     private void unregister(final Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
+        final Set<Class<?>> changed = new ReferenceOpenHashSet<>();
 
         synchronized (this.lock) {
             final Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
@@ -353,16 +456,14 @@ private void unregister(final Predicate<RegisteredListener<?>> unregister) {
                 final RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    changed.add(handler.getEventType().getType());
                     this.checker.unregisterListenerFor(handler.getEventType().getType());
                     this.registeredListeners.remove(handler.getHandle());
                 }
             }
         }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
-        }
+        this.invalidateHandlers(changed);
     }
 
     @Override
@@ -376,6 +477,17 @@ public SpongeEventManager unregisterListeners(final Object obj) {
         return this;
     }
 
+    /**
+     * Gets a snapshot of every currently registered listener.
+     *
+     * @return The registered listeners
+     */
+    public List<RegisteredListener<?>> registeredHandlers() {
+        synchronized (this.lock) {
+            return new ArrayList<>(this.handlersByEvent.values());
+        }
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected RegisteredListener.Cache getHandlerCache(final Event event) {
         final Class<? extends Event> eventClass = Objects.requireNonNull(event, "event").getClass();
@@ -391,22 +503,80 @@ protected RegisteredListener.Cache getHandlerCache(final Event event) {
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected final boolean post(final Event event, final List<RegisteredListener<?>> handlers) {
         for (final RegisteredListener handler : handlers) {
-            try (
-                    final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
-                    final @Nullable PhaseContext<@NonNull ?> context = SpongeEventManager.createListenerContext(handler.getPlugin())
-            ) {
-                frame.pushCause(handler.getPlugin());
-                if (context != null) {
-                    context.buildAndSwitch();
-                }
-                if (event instanceof AbstractEvent) {
-                    ((AbstractEvent) event).currentOrder = handler.getOrder();
-                }
-                handler.handle(event);
-            } catch (final Throwable e) {
-                SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().metadata().id(), e);
+            SpongeEventManager.dispatch(event, handler, handler.getListener());
+        }
+        return SpongeEventManager.completeDispatch(event);
+    }
+
+    /**
+     * Passes the event to a single listener. Every {@link ListenerChain}
+     * generated by the {@link ListenerChainFactory} does the same inline, so
+     * that its call of the listener is monomorphic.
+     *
+     * @param event The event
+     * @param handler The registered listener
+     * @param listener The underlying listener of the registered listener
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static void dispatch(final Event event, final RegisteredListener<?> handler, final EventListener listener) {
+        try (final ListenerFrame frame = SpongeEventManager.enterListener(event, handler)) {
+            if (ListenerProfiler.isEnabled()) {
+                ListenerProfiler.handle(handler, listener, event);
+            } else {
+                listener.handle(event);
             }
+        } catch (final Throwable e) {
+            SpongeEventManager.listenerFailed(event, handler, e);
+        }
+    }
+
+    /**
+     * Pushes the cause frame and listener phase of the listener, before it
+     * is passed the event.
+     *
+     * @param event The event
+     * @param handler The registered listener
+     * @return The frame to close once the listener returns
+     */
+    static ListenerFrame enterListener(final Event event, final RegisteredListener<?> handler) {
+        final ListenerFrame frame = new ListenerFrame(PhaseTracker.getCauseStackManager().pushCauseFrame());
+        try {
+            frame.frame.pushCause(handler.getPlugin());
+            frame.context = SpongeEventManager.createListenerContext(handler.getPlugin());
+            if (frame.context != null) {
+                frame.context.buildAndSwitch();
+            }
+        } catch (final Throwable e) {
+            throw SpongeEventManager.closeFailed(frame, e);
         }
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = handler.getOrder();
+        }
+        return frame;
+    }
+
+    /**
+     * Closes the frame of a listener that threw, keeping the exception of
+     * the listener as the one to report.
+     *
+     * @param frame The frame of the listener
+     * @param thrown What the listener threw
+     * @return The exception to rethrow
+     */
+    static Throwable closeFailed(final ListenerFrame frame, final Throwable thrown) {
+        try {
+            frame.close();
+        } catch (final Throwable e) {
+            thrown.addSuppressed(e);
+        }
+        return thrown;
+    }
+
+    static void listenerFailed(final Event event, final RegisteredListener<?> handler, final Throwable e) {
+        SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().metadata().id(), e);
+    }
+
+    static boolean completeDispatch(final Event event) {
         if (event instanceof AbstractEvent) {
             ((AbstractEvent) event).currentOrder = null;
         }
@@ -432,7 +602,24 @@ public boolean post(final Event event) {
             // Allow the client thread by default so devs can actually
             // call their own events inside the init events. Only allowing
             // this as long that there is no server available
-            return this.post(event, this.getHandlerCache(event).getListeners());
+            final RegisteredListener.Cache cache = this.getHandlerCache(event);
+            final @Nullable ListenerChain chain = cache.getChain();
+            final boolean cancelled = chain != null ? chain.dispatch(event) : this.post(event, cache.getListeners());
+            SpongeEventManager.postAsync(event, cache);
+            return cancelled;
+        }
+    }
+
+    /**
+     * Hands the event to the async listeners of the cache, after every
+     * other listener has handled it.
+     *
+     * @param event The event
+     * @param cache The handlers of the event
+     */
+    protected static void postAsync(final Event event, final RegisteredListener.Cache cache) {
+        for (final RegisteredListener<?> listener : cache.getAsyncListeners()) {
+            listener.postAsync(event);
         }
     }
 
@@ -453,6 +640,25 @@ protected final NoExceptionClosable preparePost(final Event event) {
         return SpongeEventManager.NULL_CLOSABLE;
     }
 
+    /**
+     * The precomputed, erased event super types and interfaces of a concrete
+     * event class, including the class itself.
+     */
+    static final class EventHierarchy {
+
+        final List<Class<?>> types;
+        final Set<Class<?>> lookup;
+
+        EventHierarchy(final Class<?> eventClass) {
+            this.types = Types.allSuperTypesAndInterfaces(eventClass)
+                    .map(GenericTypeReflector::erase)
+                    .filter(Event.class::isAssignableFrom)
+                    .collect(Collectors.toUnmodifiableList());
+            this.lookup = new ReferenceOpenHashSet<>(this.types);
+        }
+
+    }
+
     protected static class NoExceptionClosable implements AutoCloseable {
 
         NoExceptionClosable() {
@@ -480,4 +686,28 @@ public void close() {
 
     }
 
+    /**
+     * The cause frame and listener phase context a single listener is
+     * passed an event in.
+     */
+    static final class ListenerFrame implements AutoCloseable {
+
+        final CauseStackManager.StackFrame frame;
+        @Nullable PhaseContext<@NonNull ?> context;
+
+        ListenerFrame(final CauseStackManager.StackFrame frame) {
+            this.frame = frame;
+        }
+
+        @Override
+        public void close() {
+            try (this.frame) {
+                if (this.context != null) {
+                    this.context.close();
+                }
+            }
+        }
+
+    }
+
 }
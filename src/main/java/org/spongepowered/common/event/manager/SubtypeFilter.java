@@ -0,0 +1,82 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import io.leangen.geantyref.AnnotationFormatException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * The {@link Include} or {@link Exclude} filter of a listener method.
+ *
+ * <p>Events are always posted as their concrete class, so whether a listener
+ * passes its subtype filter only depends on the {@link EventType} and is
+ * resolved once when the handlers are baked, rather than on every post.</p>
+ */
+final class SubtypeFilter {
+
+    private final Class<?>[] classes;
+    private final boolean include;
+
+    private SubtypeFilter(final Class<?>[] classes, final boolean include) {
+        this.classes = classes;
+        this.include = include;
+    }
+
+    static @Nullable SubtypeFilter of(final ListenerClassVisitor.DiscoveredMethod method) throws ClassNotFoundException {
+        @Nullable SubtypeFilter filter = null;
+        for (final ListenerClassVisitor.ListenerAnnotation anno : method.annotations()) {
+            final String className = anno.type().getClassName();
+            final boolean include = className.equals(Include.class.getName());
+            if (!include && !className.equals(Exclude.class.getName())) {
+                continue;
+            }
+            if (filter != null) {
+                throw new IllegalStateException("Cannot have both @Include and @Exclude annotations present at once");
+            }
+            final Annotation annotation;
+            try {
+                annotation = anno.annotation();
+            } catch (final AnnotationFormatException e) {
+                throw new ClassNotFoundException("Failed to load annotation", e);
+            }
+            filter = new SubtypeFilter(include ? ((Include) annotation).value() : ((Exclude) annotation).value(), include);
+        }
+        return filter;
+    }
+
+    boolean test(final Class<?> eventClass) {
+        for (final Class<?> cls : this.classes) {
+            if (cls.isAssignableFrom(eventClass)) {
+                return this.include;
+            }
+        }
+        return !this.include;
+    }
+
+}
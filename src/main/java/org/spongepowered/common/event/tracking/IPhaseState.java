@@ -67,6 +67,7 @@
 import org.spongepowered.common.bridge.world.level.TrackableBlockEventDataBridge;
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.context.transaction.GameTransaction;
 import org.spongepowered.common.event.tracking.context.transaction.block.ChangeBlock;
 import org.spongepowered.common.event.tracking.context.transaction.world.SpawnEntityTransaction;
@@ -401,6 +402,11 @@ default void foldContextForThread(final C context, final TickTaskBridge returnVa
     default void associateScheduledTickUpdate(final C asContext, final ServerLevel level,
         final ScheduledTick<?> entry
     ) {
+        // The transaction is only needed for the event itself, or to cancel the
+        // tick again should the block change that scheduled it be cancelled.
+        if (!TrackingUtil.SCHEDULE_BLOCK_UPDATE_EVENT.shouldFire() && !ShouldFire.CHANGE_BLOCK_EVENT) {
+            return;
+        }
         asContext.getTransactor().logScheduledUpdate(level, entry);
     }
 
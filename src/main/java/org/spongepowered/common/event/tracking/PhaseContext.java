@@ -36,6 +36,8 @@
 import org.spongepowered.api.event.EventContextKeys;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.RegistryBackedTrackableBridge;
+import org.spongepowered.common.bridge.TrackableBridge;
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.util.MemoizedSupplier;
 import org.spongepowered.common.util.Preconditions;
@@ -74,6 +76,11 @@
     protected boolean isCompleted = false;
     // Only used in hard debugging instances.
     private @Nullable StackTraceElement[] stackTrace;
+    // Only set while the PhaseProfiler is recording, zero otherwise.
+    private long profiledSince;
+    // Only set while the TrackerTuner is sampling, see #sampleTrackable
+    @Nullable RegistryBackedTrackableBridge<?> tunedType;
+    private long tunedSince;
 
     // General
     @Nullable protected UUID creator;
@@ -92,6 +99,18 @@ public P source(final Object owner) {
         return (P) this;
     }
 
+    /**
+     * Samples the cost of this context for the type of the given trackable
+     * while the {@link TrackerTuner} is enabled.
+     *
+     * @param trackable The trackable this context is ticking
+     */
+    protected final void sampleTrackable(final TrackableBridge trackable) {
+        if (TrackerTuner.isEnabled()) {
+            this.tunedType = TrackerTuner.typeOf(trackable);
+        }
+    }
+
     public P creator(final Supplier<Optional<UUID>> supplier) {
         supplier.get().ifPresent(this::creator);
         return (P) this;
@@ -161,6 +180,12 @@ public P buildAndSwitch() {
         if (SpongeConfigs.getCommon().get().phaseTracker.generateStackTracePerPhase) {
             this.stackTrace = new Exception("Debug Trace").getStackTrace();
         }
+        if (PhaseProfiler.isEnabled()) {
+            this.profiledSince = System.nanoTime();
+        }
+        if (this.tunedType != null) {
+            this.tunedSince = System.nanoTime();
+        }
         PhaseTracker.getInstance().switchToPhase(this.state, this);
         return (P) this;
     }
@@ -333,6 +358,15 @@ public void close() { // Should never throw an exception
             // to "pop off" the list.
             instance.popFrameMutator(this);
         }
+        if (this.profiledSince != 0) {
+            PhaseProfiler.recordOpen(this.state, System.nanoTime() - this.profiledSince);
+            this.profiledSince = 0;
+        }
+        if (this.tunedType != null && this.tunedSince != 0) {
+            TrackerTuner.recordOpen(this.tunedType, System.nanoTime() - this.tunedSince);
+        }
+        this.tunedType = null;
+        this.tunedSince = 0;
         this.reset();
         this.isCompleted = false;
         if (this.state instanceof PooledPhaseState) {
@@ -0,0 +1,167 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.apache.logging.log4j.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.PhaseTrackerCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.util.PrettyPrinter;
+
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * The idle contexts of a {@link PooledPhaseState} on a single
+ * {@link PhaseTracker}, along with how often a context could be reused.
+ *
+ * <p>When {@code context-leak-detection-ticks} is set, the contexts handed
+ * out are also remembered with the stack trace of their creation until they
+ * are closed, so those that are never closed can be reported.</p>
+ */
+public final class PhaseContextPool<C extends PhaseContext<C>> {
+
+    private final IPhaseState<?> state;
+    private final ArrayDeque<C> idle = new ArrayDeque<>();
+    // 0 if unlimited
+    private final int maxSize;
+    private final int leakTicks;
+    private final @Nullable Map<PhaseContext<?>, Acquisition> outstanding;
+    private long hits;
+    private long misses;
+    private long discarded;
+
+    PhaseContextPool(final IPhaseState<?> state) {
+        final PhaseTrackerCategory config = SpongeConfigs.getCommon().get().phaseTracker;
+        this.state = state;
+        this.maxSize = Math.max(0, config.contextPoolMaxSizes.getOrDefault(state.toString(), config.contextPoolMaxSize));
+        this.leakTicks = config.contextLeakDetectionTicks;
+        this.outstanding = this.leakTicks > 0 ? new IdentityHashMap<>() : null;
+    }
+
+    @Nullable C poll() {
+        final @Nullable C context = this.idle.pollFirst();
+        if (context == null) {
+            this.misses++;
+        } else {
+            this.hits++;
+        }
+        return context;
+    }
+
+    /**
+     * Counts a context that was reused from the single cached context of
+     * the {@link PooledPhaseState} rather than from this pool.
+     */
+    void recordCachedHit() {
+        this.hits++;
+    }
+
+    void release(final C context) {
+        if (this.maxSize == 0 || this.idle.size() < this.maxSize) {
+            this.idle.push(context);
+        } else {
+            this.discarded++;
+        }
+    }
+
+    void acquired(final PhaseContext<?> context, final int tick) {
+        if (this.outstanding != null) {
+            this.outstanding.put(context, new Acquisition(tick, new Exception("Phase context created here")));
+        }
+    }
+
+    void released(final PhaseContext<?> context) {
+        if (this.outstanding != null) {
+            this.outstanding.remove(context);
+        }
+    }
+
+    /**
+     * Reports, once, every context handed out at least the configured number
+     * of ticks ago that was not closed since.
+     *
+     * @param tick The current tick of the tracker
+     */
+    void reportLeaks(final int tick) {
+        if (this.outstanding == null || this.outstanding.isEmpty()) {
+            return;
+        }
+        for (final Iterator<Acquisition> iterator = this.outstanding.values().iterator(); iterator.hasNext(); ) {
+            final Acquisition acquisition = iterator.next();
+            if (tick - acquisition.tick < this.leakTicks) {
+                continue;
+            }
+            iterator.remove();
+            new PrettyPrinter(60).add("Leaked Phase Context").centre().hr()
+                .addWrapped("A phase context of %s was not closed within %d ticks of being created. Contexts that are "
+                    + "never closed break the phase stack and are usually caused by a plugin or mod entering a phase "
+                    + "without closing it.", this.state, this.leakTicks)
+                .add()
+                .add(acquisition.trace)
+                .log(SpongeCommon.logger(), Level.WARN);
+        }
+    }
+
+    public IPhaseState<?> state() {
+        return this.state;
+    }
+
+    public int size() {
+        return this.idle.size();
+    }
+
+    public int maxSize() {
+        return this.maxSize;
+    }
+
+    public long hits() {
+        return this.hits;
+    }
+
+    public long misses() {
+        return this.misses;
+    }
+
+    public long discarded() {
+        return this.discarded;
+    }
+
+    public int outstanding() {
+        return this.outstanding == null ? 0 : this.outstanding.size();
+    }
+
+    public double hitRate() {
+        final long total = this.hits + this.misses;
+        return total == 0 ? 0 : (double) this.hits / total;
+    }
+
+    private record Acquisition(int tick, Exception trace) {
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.util.Timings;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in profiler recording, per {@link IPhaseState}, how often it was
+ * entered, how long its contexts were open and how long was spent unwinding
+ * it and processing its captured transactions.
+ *
+ * <p>Open time is measured from {@link PhaseContext#buildAndSwitch()} to
+ * {@link PhaseContext#close()} and so includes any phases nested inside it.
+ * Transaction processing usually happens during the unwind, in which case it
+ * is counted in both.</p>
+ */
+public final class PhaseProfiler {
+
+    private static final Map<IPhaseState<?>, PhaseTimings> TIMINGS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+    private static volatile long startedAt;
+    private static @Nullable ScheduledTask dumpTask;
+
+    private PhaseProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return PhaseProfiler.enabled;
+    }
+
+    /**
+     * Resets all recorded timings and starts recording. If the
+     * {@code profiler-dump-interval} is set, the timings are also written to
+     * the {@code dumps} directory at that interval until the profiler is
+     * stopped.
+     */
+    public static synchronized void start() {
+        PhaseProfiler.TIMINGS.clear();
+        PhaseProfiler.startedAt = System.nanoTime();
+        PhaseProfiler.enabled = true;
+        PhaseProfiler.cancelDumpTask();
+        final int interval = SpongeConfigs.getCommon().get().phaseTracker.profilerDumpInterval;
+        if (interval > 0) {
+            PhaseProfiler.dumpTask = SpongeCommon.asyncScheduler().submit(Task.builder()
+                .delay(Duration.ofSeconds(interval))
+                .interval(Duration.ofSeconds(interval))
+                .execute(() -> {
+                    try {
+                        PhaseProfiler.dump();
+                    } catch (final IOException e) {
+                        SpongeCommon.logger().error("Could not write phase timings", e);
+                    }
+                })
+                .plugin(Launch.instance().commonPlugin())
+                .build(), "Sponge Phase Profiler Dump Task");
+        }
+    }
+
+    public static synchronized void stop() {
+        PhaseProfiler.enabled = false;
+        PhaseProfiler.cancelDumpTask();
+    }
+
+    private static void cancelDumpTask() {
+        if (PhaseProfiler.dumpTask != null) {
+            PhaseProfiler.dumpTask.cancel();
+            PhaseProfiler.dumpTask = null;
+        }
+    }
+
+    static void recordOpen(final IPhaseState<?> state, final long nanos) {
+        PhaseProfiler.timings(state).record(nanos);
+    }
+
+    static void recordUnwind(final IPhaseState<?> state, final long nanos) {
+        PhaseProfiler.timings(state).unwindNanos.add(nanos);
+    }
+
+    static void recordTransactions(final IPhaseState<?> state, final long nanos) {
+        PhaseProfiler.timings(state).transactionNanos.add(nanos);
+    }
+
+    private static PhaseTimings timings(final IPhaseState<?> state) {
+        return PhaseProfiler.TIMINGS.computeIfAbsent(state, k -> new PhaseTimings());
+    }
+
+    /**
+     * Gets the recorded states, ordered by their total open time, highest
+     * first.
+     *
+     * @return The sorted states with their timings
+     */
+    public static List<Map.Entry<IPhaseState<?>, PhaseTimings>> sorted() {
+        return Timings.sorted(PhaseProfiler.TIMINGS.entrySet(), entry -> entry.getValue().totalNanos());
+    }
+
+    /**
+     * Writes the timings of every recorded phase state to a file in the
+     * {@code dumps} directory.
+     *
+     * @return The path of the written file
+     * @throws IOException If the file could not be written
+     */
+    public static Path dump() throws IOException {
+        return Timings.dump("phase-profile", "phase timings", PhaseProfiler.startedAt,
+            "state\tentries\topen-ns\tmean-open-ns\tmax-open-ns\tunwind-ns\ttransactions-ns", PhaseProfiler.sorted(), entry -> {
+                final PhaseTimings timings = entry.getValue();
+                return entry.getKey().toString() + '\t' + timings.count() + '\t' + timings.totalNanos() + '\t'
+                    + timings.meanNanos() + '\t' + timings.maxNanos() + '\t' + timings.unwindNanos() + '\t'
+                    + timings.transactionNanos();
+            });
+    }
+
+    /**
+     * The timings of a phase state, counting its closed contexts and the time
+     * they were open.
+     */
+    public static final class PhaseTimings extends Timings {
+
+        private final LongAdder unwindNanos = new LongAdder();
+        private final LongAdder transactionNanos = new LongAdder();
+
+        public long unwindNanos() {
+            return this.unwindNanos.sum();
+        }
+
+        public long transactionNanos() {
+            return this.transactionNanos.sum();
+        }
+
+    }
+
+}
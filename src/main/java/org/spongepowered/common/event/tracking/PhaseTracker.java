@@ -399,7 +399,22 @@ void completePhase(final PhaseContext<?> context) {
                 // at least unwind UNWINDING to process any captured objects so we're not totally without
                 // loss of objects
                 if (hasCaptures) {
-                    ((IPhaseState) state).unwind(currentContext);
+                    if (PhaseProfiler.isEnabled() || currentContext.tunedType != null) {
+                        final long start = System.nanoTime();
+                        try {
+                            ((IPhaseState) state).unwind(currentContext);
+                        } finally {
+                            final long nanos = System.nanoTime() - start;
+                            if (PhaseProfiler.isEnabled()) {
+                                PhaseProfiler.recordUnwind(state, nanos);
+                            }
+                            if (currentContext.tunedType != null) {
+                                TrackerTuner.recordUnwind(currentContext.tunedType, nanos);
+                            }
+                        }
+                    } else {
+                        ((IPhaseState) state).unwind(currentContext);
+                    }
                 }
             } catch (final Exception e) {
                 PhasePrinter.printMessageWithCaughtException(this.stack, "Exception Exiting Phase", "Something happened when trying to unwind", state, currentContext, e);
@@ -451,10 +466,39 @@ public void ensureEmpty() {
         }
     }
 
-    private final IdentityHashMap<IPhaseState<?>, ArrayDeque<? extends PhaseContext<?>>> stateContextPool = new IdentityHashMap<>();
+    private final IdentityHashMap<IPhaseState<?>, PhaseContextPool<?>> stateContextPool = new IdentityHashMap<>();
+    // Advanced at the start of every server tick on the server tracker, for leak detection
+    private int ticks;
+
+    /**
+     * Advances the tick of this tracker and reports the pooled contexts that
+     * were not closed in time. Called at the start of every server tick for
+     * the {@link #SERVER} tracker.
+     */
+    public void tick() {
+        this.ticks++;
+        for (final PhaseContextPool<?> pool : this.stateContextPool.values()) {
+            pool.reportLeaks(this.ticks);
+        }
+    }
 
-    public <C extends PhaseContext<C>> ArrayDeque<C> getContextPoolFor(final PooledPhaseState<? extends C> state) {
-        return (ArrayDeque<C>) this.stateContextPool.computeIfAbsent(state, (newState) -> new ArrayDeque<>());
+    @SuppressWarnings("unchecked")
+    public <C extends PhaseContext<C>> PhaseContextPool<C> getContextPoolFor(final PooledPhaseState<? extends C> state) {
+        return (PhaseContextPool<C>) this.stateContextPool.computeIfAbsent(state, PhaseContextPool::new);
+    }
+
+    /**
+     * Gets a snapshot of the context pools of every pooled phase state that
+     * was entered on this tracker.
+     *
+     * @return The context pools
+     */
+    public List<PhaseContextPool<?>> contextPools() {
+        return new ArrayList<>(this.stateContextPool.values());
+    }
+
+    int ticks() {
+        return this.ticks;
     }
 
     @Override
@@ -510,7 +554,6 @@ public EventContext currentContext() {
     public CauseStackManager pushCause(final Object obj) {
         Objects.requireNonNull(obj, "obj");
         this.enforceMainThread();
-        this.cached_cause = null;
         if (this.cause.peek() == obj) {
             // We don't want to be pushing duplicate objects
             // to the root and secondary entry of the cause.
@@ -526,8 +569,10 @@ public CauseStackManager pushCause(final Object obj) {
             // Increase the value by 1 since we've obviously reached a new duplicate. This is to allow for
             // additional duplicates to be "popped" with proper indexing.
             this.duplicateCauses[dupedIndex] = this.duplicateCauses[dupedIndex] + 1;
+            // The cause itself is unchanged, so the cached cause remains valid
             return this;
         }
+        this.cached_cause = null;
         this.cause.push(obj);
         return this;
     }
@@ -588,6 +633,8 @@ public StackFrame pushCauseFrame() {
             frame.lastCauseSize = this.duplicateCauses[size];
         }
 
+        frame.cachedCause = this.cached_cause;
+        frame.cachedContext = this.cached_ctx;
         this.frames.push(frame);
         this.min_depth = size;
         if (PhaseTracker.DEBUG_CAUSE_FRAMES) {
@@ -663,8 +710,6 @@ public void popCauseFrame(final StackFrame oldFrame) {
 
         // Remove new values
         for (final Map.Entry<EventContextKey<?>, Object> entry : frame.getOriginalContextDelta().entrySet()) {
-            this.cached_ctx = null;
-            this.cached_cause = null;
             if (entry.getValue() == null) { // wasn't present before, remove
                 this.ctx.remove(entry.getKey());
             } else { // was there, replace
@@ -685,9 +730,6 @@ public void popCauseFrame(final StackFrame oldFrame) {
                 this.duplicateCauses[index] = 0;
             }
             this.cause.pop();
-
-            // and clear the cached causes
-            this.cached_cause = null;
         }
         this.min_depth = frame.old_min_depth;
         final int size = this.cause.size();
@@ -695,6 +737,10 @@ public void popCauseFrame(final StackFrame oldFrame) {
             // Then set the last cause index to whatever the size of the entry was at the time.
             this.duplicateCauses[size] = frame.lastCauseSize;
         }
+        // The causes and context are now exactly as they were when the frame
+        // was pushed, so whatever was cached at that point is valid again
+        this.cached_cause = frame.cachedCause;
+        this.cached_ctx = frame.cachedContext;
 
         // finally, return the frame to the pool
         if (this.framePool.size() < PhaseTracker.MAX_POOL_SIZE) {
@@ -710,9 +756,11 @@ public <T> CauseStackManager addContext(final EventContextKey<T> key, final T va
         Objects.requireNonNull(key, "key");
         Objects.requireNonNull(value, "value");
         this.enforceMainThread();
-        this.cached_ctx = null;
-        this.cached_cause = null;
         final @Nullable Object existing = this.ctx.put(key, value);
+        if (existing != value && !value.equals(existing)) {
+            this.cached_ctx = null;
+            this.cached_cause = null;
+        }
         if (!this.frames.isEmpty()) {
             this.frames.peek().storeOriginalContext(key, existing);
         }
@@ -730,9 +778,11 @@ public <T> Optional<T> context(final EventContextKey<T> key) {
     public <T> Optional<T> removeContext(final EventContextKey<T> key) {
         Objects.requireNonNull(key, "key");
         this.enforceMainThread();
-        this.cached_ctx = null;
-        this.cached_cause = null;
-        final Object existing = this.ctx.remove(key);
+        final @Nullable Object existing = this.ctx.remove(key);
+        if (existing != null) {
+            this.cached_ctx = null;
+            this.cached_cause = null;
+        }
         if (!this.frames.isEmpty()) {
             this.frames.peek().storeOriginalContext(key, existing);
         }
@@ -31,6 +31,8 @@
     // @formatter: off
     private @Nullable transient C serverCached;
     private @Nullable C clientCached;
+    // The server tracker never changes, so its pool is kept here instead of being looked up on every use
+    private @Nullable transient PhaseContextPool<C> serverPool;
     // @formatter: on
 
     protected PooledPhaseState() {
@@ -42,24 +44,29 @@ public final C createPhaseContext(final PhaseTracker tracker) {
             throw new IllegalStateException("Asynchronous Thread Access to PhaseTracker: " + tracker);
         }
 
+        final PhaseContextPool<C> pool = this.poolFor(tracker);
+        @Nullable C context = null;
         if (tracker == PhaseTracker.SERVER) {
             if (this.serverCached != null) {
-                final C cached = this.serverCached;
+                context = this.serverCached;
                 this.serverCached = null;
-                return cached;
             }
         } else if (tracker == PhaseTracker.CLIENT) {
             if (this.clientCached != null) {
-                final C cached = this.clientCached;
+                context = this.clientCached;
                 this.clientCached = null;
-                return cached;
             }
         }
-        final @Nullable C peek = tracker.getContextPoolFor(this).pollFirst();
-        if (peek != null) {
-            return peek;
+        if (context != null) {
+            pool.recordCachedHit();
+        } else {
+            context = pool.poll();
+            if (context == null) {
+                context = this.createNewContext(tracker);
+            }
         }
-        return this.createNewContext(tracker);
+        pool.acquired(context, tracker.ticks());
+        return context;
     }
 
     final void releaseContextFromPool(final C context) {
@@ -67,6 +74,8 @@ final void releaseContextFromPool(final C context) {
         if (Thread.currentThread() != createdTracker.getSidedThread()) {
             throw new IllegalStateException("Asynchronous Thread Access to PhaseTracker: " + createdTracker);
         }
+        final PhaseContextPool<C> pool = this.poolFor(createdTracker);
+        pool.released(context);
         if (createdTracker == PhaseTracker.SERVER) {
             if (this.serverCached == null) {
                 this.serverCached = context;
@@ -79,7 +88,17 @@ else if (createdTracker == PhaseTracker.CLIENT) {
                 return;
             }
         }
-        createdTracker.getContextPoolFor(this).push(context);
+        pool.release(context);
+    }
+
+    private PhaseContextPool<C> poolFor(final PhaseTracker tracker) {
+        if (tracker != PhaseTracker.SERVER) {
+            return tracker.getContextPoolFor(this);
+        }
+        if (this.serverPool == null) {
+            this.serverPool = tracker.getContextPoolFor(this);
+        }
+        return this.serverPool;
     }
 
     protected abstract C createNewContext(PhaseTracker tracker);
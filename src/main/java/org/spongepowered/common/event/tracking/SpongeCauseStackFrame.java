@@ -43,6 +43,10 @@ public final class SpongeCauseStackFrame implements CauseStackManager.StackFrame
     private final Map<EventContextKey<?>, Object> storedContext;
     int old_min_depth;
     int lastCauseSize;
+    // The cause and context cached by the tracker when this frame was pushed,
+    // restored when it is popped since the stack is then back in that state
+    @Nullable Cause cachedCause;
+    @Nullable EventContext cachedContext;
 
     @Nullable Exception stackDebug = null;
 
@@ -58,6 +62,8 @@ public void clear() {
         this.storedContext.clear();
         this.lastCauseSize = -1;
         this.old_min_depth = -1;
+        this.cachedCause = null;
+        this.cachedContext = null;
         this.stackDebug = null;
     }
 
@@ -0,0 +1,299 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.bridge.DelegatingConfigTrackableBridge;
+import org.spongepowered.common.bridge.RegistryBackedTrackableBridge;
+import org.spongepowered.common.bridge.TrackableBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.config.tracker.AutoTuneCategory;
+import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.util.Timings;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures, per block, entity and block entity type, how long its tick
+ * phases are open and unwinding, and turns off block event tracking for the
+ * types whose captures are expensive to unwind while nothing listens to the
+ * events made from them.
+ *
+ * <p>Tuning is enabled through the {@code auto-tune} category of
+ * {@code tracker.conf}. Types are only ever turned off while none of the
+ * events block event tracking is needed for are listened to (see
+ * {@link TrackingUtil#trackedEffectsObserved()}). Tuning only changes the
+ * tracking of the types at runtime, the values set in {@code tracker.conf}
+ * are left as they are. The tuned types are recorded in the {@code auto-tune}
+ * category, so they are tuned again after a restart and turned back to their
+ * configured values as soon as such a listener is registered.</p>
+ */
+public final class TrackerTuner {
+
+    private static final Map<RegistryBackedTrackableBridge<?>, Samples> SAMPLES = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+    private static @Nullable ScheduledTask evaluationTask;
+
+    private TrackerTuner() {
+    }
+
+    public static boolean isEnabled() {
+        return TrackerTuner.enabled;
+    }
+
+    /**
+     * Starts sampling and evaluating the tracked types if enabled in the
+     * config.
+     */
+    public static synchronized void start() {
+        final AutoTuneCategory config = SpongeGameConfigs.getTracker().get().autoTune;
+        TrackerTuner.stop();
+        if (!config.enabled) {
+            return;
+        }
+        TrackerTuner.SAMPLES.clear();
+        TrackerTuner.enabled = true;
+        if (TrackingUtil.trackedEffectsObserved()) {
+            // Listeners registered before the server started did not get to undo the tuning
+            TrackerTuner.restoreTunedTypes();
+        } else {
+            for (final String id : config.tunedTypes) {
+                TrackerTuner.resolve(id).ifPresent(TrackerTuner::disableBlockTracking);
+            }
+        }
+        final Duration interval = Duration.ofSeconds(Math.max(1, config.evaluationInterval));
+        TrackerTuner.evaluationTask = SpongeCommon.serverScheduler().submit(Task.builder()
+            .delay(interval)
+            .interval(interval)
+            .execute(TrackerTuner::evaluate)
+            .plugin(Launch.instance().commonPlugin())
+            .build(), "Sponge Tracker Tuner");
+    }
+
+    public static synchronized void stop() {
+        TrackerTuner.enabled = false;
+        if (TrackerTuner.evaluationTask != null) {
+            TrackerTuner.evaluationTask.cancel();
+            TrackerTuner.evaluationTask = null;
+        }
+    }
+
+    static @Nullable RegistryBackedTrackableBridge<?> typeOf(final TrackableBridge trackable) {
+        final TrackableBridge type = trackable instanceof DelegatingConfigTrackableBridge delegating
+            ? delegating.bridge$trackingConfigDelegate()
+            : trackable;
+        return type instanceof RegistryBackedTrackableBridge<?> registryBacked ? registryBacked : null;
+    }
+
+    static void recordOpen(final RegistryBackedTrackableBridge<?> type, final long nanos) {
+        TrackerTuner.samples(type).open.record(nanos);
+    }
+
+    static void recordUnwind(final RegistryBackedTrackableBridge<?> type, final long nanos) {
+        final Samples samples = TrackerTuner.samples(type);
+        samples.unwind.record(nanos);
+        if (TrackingUtil.trackedEffectsObserved()) {
+            samples.observedUnwinds.increment();
+        }
+    }
+
+    private static Samples samples(final RegistryBackedTrackableBridge<?> type) {
+        return TrackerTuner.SAMPLES.computeIfAbsent(type, k -> new Samples());
+    }
+
+    /**
+     * Gets the sampled types, ordered by their mean tracking cost, highest
+     * first.
+     *
+     * @return The sorted type ids with their samples
+     */
+    public static List<Map.Entry<String, Samples>> sorted() {
+        final List<Map.Entry<String, Samples>> entries = new ArrayList<>(TrackerTuner.SAMPLES.size());
+        TrackerTuner.SAMPLES.forEach((type, samples) -> entries.add(Map.entry(TrackerTuner.id(type), samples)));
+        return Timings.sorted(entries, entry -> entry.getValue().meanTrackingNanos());
+    }
+
+    public static List<String> tunedTypes() {
+        return List.copyOf(SpongeGameConfigs.getTracker().get().autoTune.tunedTypes);
+    }
+
+    /**
+     * Turns the tracking of the tuned types back to their configured values
+     * if the events made from their captures are listened to now. Called
+     * whenever the {@code ShouldFire} flags are updated for a new listener, so
+     * a new listener is not left without the events of those types until the
+     * next evaluation.
+     */
+    public static void onListenerRegistered() {
+        if (!TrackerTuner.enabled || !TrackingUtil.trackedEffectsObserved()) {
+            return;
+        }
+        if (PhaseTracker.SERVER.onSidedThread()) {
+            TrackerTuner.restoreTunedTypes();
+        } else {
+            SpongeCommon.server().execute(TrackerTuner::restoreTunedTypes);
+        }
+    }
+
+    private static synchronized void restoreTunedTypes() {
+        final AutoTuneCategory config = SpongeGameConfigs.getTracker().get().autoTune;
+        if (config.tunedTypes.isEmpty() || !TrackingUtil.trackedEffectsObserved()) {
+            return;
+        }
+        for (final String id : config.tunedTypes) {
+            TrackerTuner.resolve(id).ifPresent(type -> {
+                type.bridge$refreshTrackerStates();
+                SpongeCommon.logger().info("Turned block event tracking for {} back to its configured value, its events are "
+                    + "being listened to", id);
+            });
+        }
+        config.tunedTypes.clear();
+        SpongeGameConfigs.getTracker().save();
+    }
+
+    static synchronized void evaluate() {
+        if (TrackingUtil.trackedEffectsObserved()) {
+            TrackerTuner.restoreTunedTypes();
+            return;
+        }
+        final AutoTuneCategory config = SpongeGameConfigs.getTracker().get().autoTune;
+        boolean changed = false;
+        final long threshold = config.costThreshold * 1_000L;
+        for (final Map.Entry<RegistryBackedTrackableBridge<?>, Samples> entry : TrackerTuner.SAMPLES.entrySet()) {
+            final RegistryBackedTrackableBridge<?> type = entry.getKey();
+            final Samples samples = entry.getValue();
+            if (!type.bridge$allowsBlockEventCreation()
+                || samples.contexts() < config.minimumSamples
+                || samples.observedUnwinds() > 0
+                || samples.meanTrackingNanos() < threshold
+            ) {
+                continue;
+            }
+            final String id = TrackerTuner.id(type);
+            TrackerTuner.disableBlockTracking(type);
+            if (!config.tunedTypes.contains(id)) {
+                config.tunedTypes.add(id);
+            }
+            changed = true;
+            SpongeCommon.logger().info("Turned block event tracking for {} off, unwinding its captures takes {} µs per tick on "
+                + "average and their events are not listened to", id, samples.meanTrackingNanos() / 1_000L);
+        }
+        if (changed) {
+            SpongeGameConfigs.getTracker().save();
+        }
+    }
+
+    private static void disableBlockTracking(final RegistryBackedTrackableBridge<?> type) {
+        type.bridge$setAllowsBlockEventCreation(false);
+        type.bridge$setAllowsBlockBulkCaptures(false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ResourceLocation key(final RegistryBackedTrackableBridge<T> type) {
+        return type.bridge$trackerRegistryBacking().getKey((T) (Object) type);
+    }
+
+    private static String id(final RegistryBackedTrackableBridge<?> type) {
+        return type.bridge$trackerRegistryBacking().key().location() + "/" + TrackerTuner.key(type);
+    }
+
+    private static Optional<RegistryBackedTrackableBridge<?>> resolve(final String id) {
+        final int split = id.indexOf('/');
+        if (split < 0) {
+            return Optional.empty();
+        }
+        final @Nullable ResourceLocation registryKey = ResourceLocation.tryParse(id.substring(0, split));
+        final @Nullable ResourceLocation key = ResourceLocation.tryParse(id.substring(split + 1));
+        if (registryKey == null || key == null) {
+            return Optional.empty();
+        }
+        final Optional<? extends Registry<?>> registry = BuiltInRegistries.REGISTRY.getOptional(registryKey);
+        return registry.flatMap(r -> r.getOptional(key))
+            .filter(RegistryBackedTrackableBridge.class::isInstance)
+            .map(type -> (RegistryBackedTrackableBridge<?>) type);
+    }
+
+    public static final class Samples {
+
+        private final Timings open = new Timings();
+        private final Timings unwind = new Timings();
+        private final LongAdder observedUnwinds = new LongAdder();
+
+        /**
+         * Gets the timings of the tick phases of the type, from entering
+         * until closing them.
+         *
+         * @return The timings of the tick phases
+         */
+        public Timings open() {
+            return this.open;
+        }
+
+        /**
+         * Gets the timings of unwinding the tick phases of the type that had
+         * anything captured.
+         *
+         * @return The timings of the unwinds
+         */
+        public Timings unwind() {
+            return this.unwind;
+        }
+
+        public long contexts() {
+            return this.open.count();
+        }
+
+        /**
+         * Gets the time unwinding the captures of the type takes, spread over
+         * all of its ticks. This is what block event tracking costs the type,
+         * the time its phases are open is mostly spent ticking it either way.
+         *
+         * @return The mean tracking cost per tick, in nanoseconds
+         */
+        public long meanTrackingNanos() {
+            final long contexts = this.contexts();
+            return contexts == 0 ? 0 : this.unwind.totalNanos() / contexts;
+        }
+
+        public long observedUnwinds() {
+            return this.observedUnwinds.sum();
+        }
+
+    }
+
+}
@@ -45,6 +45,7 @@
 import org.spongepowered.api.data.Keys;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.ScheduleBlockUpdateEvent;
 import org.spongepowered.api.event.block.TickBlockEvent;
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.BlockChangeFlags;
@@ -60,6 +61,7 @@
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.event.manager.EventFlag;
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.event.tracking.phase.tick.BlockEventTickContext;
 import org.spongepowered.common.event.tracking.phase.tick.BlockTickContext;
@@ -96,6 +98,8 @@ public final class TrackingUtil {
 
     public static final int WIDTH = 40;
 
+    static final EventFlag SCHEDULE_BLOCK_UPDATE_EVENT = EventFlag.of(ScheduleBlockUpdateEvent.class);
+
     public static void tickEntity(final net.minecraft.world.entity.Entity entity, final Runnable tick) {
         Preconditions.checkArgument(entity instanceof Entity, () -> String.format("Entity %s is not an instance of SpongeAPI's Entity!", entity));
         Objects.requireNonNull(entity, "Cannot capture on a null ticking entity!");
@@ -346,6 +350,33 @@ public static boolean fireMinecraftBlockEvent(
     private TrackingUtil() {
     }
 
+    /**
+     * Gets whether anything listens to the changes of blocks, that is to any
+     * {@link org.spongepowered.api.event.block.ChangeBlockEvent} the
+     * transactions of a phase are turned into.
+     *
+     * @return True if block changes are observed
+     */
+    public static boolean blockChangesObserved() {
+        return ShouldFire.CHANGE_BLOCK_EVENT_ALL || ShouldFire.CHANGE_BLOCK_EVENT_PRE || ShouldFire.CHANGE_BLOCK_EVENT_POST;
+    }
+
+    /**
+     * Gets whether any of the events made from the captures of a phase
+     * context with block event tracking are listened to. Besides block
+     * changes, such contexts capture neighbor notifications, entity deaths
+     * and the items dropped by entities and block inventories.
+     *
+     * @return True if the effects of block event tracking are observed
+     */
+    public static boolean trackedEffectsObserved() {
+        return TrackingUtil.blockChangesObserved()
+            || ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT
+            || ShouldFire.SPAWN_ENTITY_EVENT
+            || ShouldFire.DROP_ITEM_EVENT
+            || ShouldFire.DESTRUCT_ENTITY_EVENT;
+    }
+
     public static @Nullable UUID getNotifierOrOwnerFromBlock(final ServerLevel world, final BlockPos blockPos) {
         final LevelChunkBridge mixinChunk = (LevelChunkBridge) world.getChunkAt(blockPos);
         final UUID notifier = mixinChunk.bridge$getBlockNotifierUUID(blockPos).orElse(null);
@@ -387,6 +418,14 @@ public static boolean processBlockCaptures(final PhaseContext<@NonNull ?> contex
         3) If there are child side effects, repeat the process.
 
          */
+        if (PhaseProfiler.isEnabled()) {
+            final long start = System.nanoTime();
+            try {
+                return transactor.processTransactions(context);
+            } finally {
+                PhaseProfiler.recordTransactions(context.state, System.nanoTime() - start);
+            }
+        }
         return transactor.processTransactions(context);
     }
 
@@ -450,6 +489,25 @@ public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world
         final Supplier<ServerLevel> worldSupplier,
         final Supplier<Optional<UUID>> creatorSupplier,
         final Supplier<Optional<UUID>> notifierSupplier
+    ) {
+        return TrackingUtil.createPooledSnapshot(state, pos, updateFlag, limit, blockEntity, false, worldSupplier, creatorSupplier, notifierSupplier);
+    }
+
+    /**
+     * Creates a snapshot of the given state, optionally deferring the
+     * serialization of the block entity until the snapshot's data is first
+     * requested.
+     *
+     * <p>Deferring is only correct while the block entity stays in the world,
+     * i.e. when the block keeps its type, as the data is otherwise read after
+     * the block entity has been removed or had its contents dropped.</p>
+     */
+    public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world.level.block.state.BlockState state, final BlockPos pos,
+        final BlockChangeFlag updateFlag, final int limit, final net.minecraft.world.level.block.entity.@Nullable BlockEntity blockEntity,
+        final boolean deferBlockEntity,
+        final Supplier<ServerLevel> worldSupplier,
+        final Supplier<Optional<UUID>> creatorSupplier,
+        final Supplier<Optional<UUID>> notifierSupplier
     ) {
         final SpongeBlockSnapshot.BuilderImpl builder = SpongeBlockSnapshot.BuilderImpl.pooled();
         builder.reset();
@@ -459,7 +517,11 @@ public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world
         creatorSupplier.get().ifPresent(builder::creator);
         notifierSupplier.get().ifPresent(builder::notifier);
         if (blockEntity != null) {
-            TrackingUtil.addTileEntityToBuilder(blockEntity, builder);
+            if (deferBlockEntity) {
+                builder.lazyBlockEntity(blockEntity);
+            } else {
+                TrackingUtil.addTileEntityToBuilder(blockEntity, builder);
+            }
         }
         builder.flag(updateFlag);
         return builder.build();
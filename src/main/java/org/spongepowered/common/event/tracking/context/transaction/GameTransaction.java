@@ -89,6 +89,16 @@ public final void addLast(final ResultingTransactionBySideEffect effect) {
         this.sideEffects.addLast(effect);
     }
 
+    /**
+     * Gets whether any side effect was processed for this transaction, even
+     * if it did not result in child transactions.
+     *
+     * @return Whether this transaction has side effects
+     */
+    public final boolean hasSideEffects() {
+        return this.sideEffects != null && !this.sideEffects.isEmpty();
+    }
+
     public final boolean hasChildTransactions() {
         return this.sideEffects != null && this.sideEffects.stream().anyMatch(effect -> effect.head != null);
     }
@@ -182,6 +192,20 @@ protected void captureState() {
 
     }
 
+    /**
+     * Clears the state shared by all transactions so a pooled transaction
+     * can be recorded again.
+     */
+    protected final void clearTransactionState() {
+        this.cancelled = false;
+        if (this.sideEffects != null) {
+            this.sideEffects.clear();
+        }
+        this.previous = null;
+        this.next = null;
+        this.recorded = false;
+    }
+
     private static class ChildIterator implements Iterator<GameTransaction<@NonNull ?>> {
         private final Iterator<ResultingTransactionBySideEffect> effectIterator;
         private @Nullable GameTransaction<@NonNull ?> cachedNext;
@@ -26,6 +26,11 @@
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultimap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -33,25 +38,45 @@
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.Event;
+import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.context.ICaptureSupplier;
+import org.spongepowered.common.event.tracking.context.transaction.block.ChangeBlock;
+import org.spongepowered.common.event.tracking.context.transaction.block.NeighborNotification;
 import org.spongepowered.common.event.tracking.context.transaction.effect.PrepareBlockDrops;
 import org.spongepowered.common.event.tracking.context.transaction.type.TransactionType;
+import org.spongepowered.common.event.tracking.context.transaction.type.TransactionTypes;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.StringJoiner;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 @SuppressWarnings("rawtypes")
 public final class TransactionalCaptureSupplier implements ICaptureSupplier, TransactionSink, Iterable<GameTransaction<@NonNull ?>> {
 
+    // If enabled, recycled transactions are never handed out again, so any reference
+    // escaping past reset() fails loudly instead of silently seeing a newer change.
+    private static final boolean POISON_RECYCLED = Boolean.parseBoolean(System.getProperty("sponge.poisonRecycledTransactions", "false"));
+    private static final int MAX_POOLED_CHANGES = 1024;
+
     // We made BlockTransaction a Node and this is a pseudo LinkedList due to the nature of needing
     // to be able to track what block states exist at the time of the transaction while other transactions
     // are processing (because future transactions performing logic based on what exists at that state,
@@ -63,11 +88,78 @@ public final class TransactionalCaptureSupplier implements ICaptureSupplier, Tra
     private @Nullable GameTransaction<@NonNull ?> head;
     private @Nullable ResultingTransactionBySideEffect effect;
     private final PhaseContext<@NonNull ?> context;
+    // Arena of the block changes recorded since the last reset, and those free to be reused.
+    // Phase contexts are pooled per state, so this arena lives as long as the context does.
+    private final List<ChangeBlock> recordedChanges = new ArrayList<>();
+    private final Deque<ChangeBlock> pooledChanges = new ArrayDeque<>();
+    // Originals whose block entity data has not been read yet, by position. They
+    // are materialized as soon as anything else touches the block at that position.
+    private final Map<BlockPos, SpongeBlockSnapshot> deferredOriginals = new HashMap<>();
 
     public TransactionalCaptureSupplier(final PhaseContext<@NonNull ?> context) {
         this.context = context;
     }
 
+    @Override
+    public ChangeBlock logBlockChange(final SpongeBlockSnapshot originalBlockSnapshot, final BlockState newState,
+        final BlockChangeFlag flags
+    ) {
+        this.materializeDeferred(originalBlockSnapshot.getBlockPos());
+        if (originalBlockSnapshot.isDeferred()) {
+            this.deferredOriginals.put(originalBlockSnapshot.getBlockPos(), originalBlockSnapshot);
+        }
+        final @Nullable ChangeBlock pooled = this.pooledChanges.pollFirst();
+        final ChangeBlock changeBlock = pooled != null
+            ? pooled.reinitialize(originalBlockSnapshot, newState, (SpongeBlockChangeFlag) flags)
+            : new ChangeBlock(originalBlockSnapshot, newState, (SpongeBlockChangeFlag) flags);
+        this.recordedChanges.add(changeBlock);
+        this.logTransaction(changeBlock);
+        return changeBlock;
+    }
+
+    @Override
+    public boolean logTileReplacement(final BlockPos pos, final @Nullable BlockEntity existing, final @Nullable BlockEntity proposed,
+        final Supplier<ServerLevel> worldSupplier
+    ) {
+        this.materializeDeferred(pos);
+        return TransactionSink.super.logTileReplacement(pos, existing, proposed, worldSupplier);
+    }
+
+    @Override
+    public boolean logTileRemoval(final @Nullable BlockEntity tileentity, final Supplier<ServerLevel> worldSupplier) {
+        if (tileentity != null) {
+            this.materializeDeferred(tileentity.getBlockPos());
+        }
+        return TransactionSink.super.logTileRemoval(tileentity, worldSupplier);
+    }
+
+    @Override
+    public void logNeighborNotification(
+        final Supplier<ServerLevel> serverWorldSupplier, final BlockPos immutableFrom, final Block blockIn,
+        final BlockPos immutableTarget, final BlockState targetBlockState,
+        final @Nullable BlockEntity existingTile
+    ) {
+        // Consecutive notifications are packed into the last one instead of
+        // each being recorded as its own transaction
+        final @Nullable GameTransaction<@NonNull ?> last = this.effect != null ? this.effect.tail : this.tail;
+        if (last instanceof NeighborNotification notification && notification.tryAppend(serverWorldSupplier.get(),
+            targetBlockState, immutableTarget, blockIn, immutableFrom, existingTile)) {
+            return;
+        }
+        TransactionSink.super.logNeighborNotification(serverWorldSupplier, immutableFrom, blockIn, immutableTarget, targetBlockState,
+            existingTile);
+    }
+
+    private void materializeDeferred(final BlockPos pos) {
+        if (this.deferredOriginals.isEmpty()) {
+            return;
+        }
+        final @Nullable SpongeBlockSnapshot deferred = this.deferredOriginals.remove(pos);
+        if (deferred != null) {
+            deferred.materialize();
+        }
+    }
+
 
     /**
      * Returns {@code true} if there are no captured objects.
@@ -222,16 +314,21 @@ public boolean processTransactions(final PhaseContext<@NonNull ?> context) {
         final ImmutableMultimap.Builder<TransactionType, ? extends Event> transactionPostEventBuilder
     ) {
         final ImmutableList.Builder<EventByTransaction<@NonNull ?>> builder = ImmutableList.builder();
+        final int maxBlockBatchSize = SpongeConfigs.getCommon().get().phaseTracker.maxBlockEventBatchSize;
         @Nullable GameTransaction pointer = head;
         ImmutableList.Builder<GameTransaction> accumilator = ImmutableList.builder();
+        int accumulated = 0;
         @MonotonicNonNull GameTransaction batchDecider = null;
         while (pointer != null) {
             if (batchDecider == null) {
                 batchDecider = pointer;
             }
-            if (batchDecider.shouldBuildEventAndRestartBatch(pointer, context)) {
+            if (batchDecider.shouldBuildEventAndRestartBatch(pointer, context)
+                || TransactionalCaptureSupplier.isBlockBatchFull(batchDecider, accumulated, maxBlockBatchSize)
+            ) {
                 final ImmutableList<GameTransaction> transactions = accumilator.build();
                 accumilator = ImmutableList.builder();
+                accumulated = 0;
                 TransactionalCaptureSupplier.generateEventForTransaction(
                     batchDecider,
                     parent,
@@ -247,6 +344,7 @@ public boolean processTransactions(final PhaseContext<@NonNull ?> context) {
                 accumilator.add(pointer);
                 final ImmutableList<GameTransaction> transactions = accumilator.build();
                 accumilator = ImmutableList.builder();
+                accumulated = 0;
                 batchDecider = pointer.next;
                 TransactionalCaptureSupplier.generateEventForTransaction(
                     pointer,
@@ -258,6 +356,7 @@ public boolean processTransactions(final PhaseContext<@NonNull ?> context) {
                 );
             } else {
                 accumilator.add(pointer);
+                accumulated++;
             }
             pointer = pointer.next;
         }
@@ -275,6 +374,10 @@ public boolean processTransactions(final PhaseContext<@NonNull ?> context) {
         return builder.build();
     }
 
+    private static boolean isBlockBatchFull(final GameTransaction<@NonNull ?> batchDecider, final int accumulated, final int max) {
+        return max > 0 && accumulated >= max && batchDecider.getTransactionType() == TransactionTypes.BLOCK.get();
+    }
+
     @SuppressWarnings("unchecked")
     private static <E extends Event & Cancellable> void generateEventForTransaction(
         final @NonNull GameTransaction<E> pointer,
@@ -355,6 +458,29 @@ public void reset() {
         if (this.effect != null) {
             this.effect = null;
         }
+        if (!this.recordedChanges.isEmpty()) {
+            for (final ChangeBlock changeBlock : this.recordedChanges) {
+                changeBlock.recycle();
+                if (!TransactionalCaptureSupplier.POISON_RECYCLED && this.pooledChanges.size() < TransactionalCaptureSupplier.MAX_POOLED_CHANGES) {
+                    this.pooledChanges.push(changeBlock);
+                }
+            }
+            this.recordedChanges.clear();
+        }
+        if (!this.deferredOriginals.isEmpty()) {
+            // Whatever still holds on to these can no longer rely on the block
+            // entity being the original, so they are not allowed to read it.
+            // Besides block change events, the originals are handed to the
+            // listeners of neighbor notifications, spawns and drops as a cause
+            // or as the block target of their context, and a listener
+            // registered during the phase may have been handed them too.
+            if (TrackingUtil.trackedEffectsObserved()) {
+                this.deferredOriginals.values().forEach(SpongeBlockSnapshot::materialize);
+            } else {
+                this.deferredOriginals.values().forEach(SpongeBlockSnapshot::dropDeferred);
+            }
+            this.deferredOriginals.clear();
+        }
     }
 
     @Override
@@ -25,6 +25,7 @@
 package org.spongepowered.common.event.tracking.context.transaction.block;
 
 import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.block.state.BlockState;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -47,14 +48,14 @@
 import org.spongepowered.common.event.tracking.context.transaction.world.WorldBasedTransaction;
 import org.spongepowered.math.vector.Vector3i;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Optional;
 
 abstract class BlockEventBasedTransaction extends WorldBasedTransaction<ChangeBlockEvent.All> {
 
-    final BlockPos affectedPosition;
-    final BlockState originalState;
+    // Not final so pooled transactions can be re-initialized
+    BlockPos affectedPosition;
+    BlockState originalState;
 
     BlockEventBasedTransaction(final BlockPos affectedPosition, final BlockState originalState, final ResourceKey worldKey) {
         super(TransactionTypes.BLOCK.get(), worldKey);
@@ -74,7 +75,12 @@ public final Optional<ChangeBlockEvent.All> generateEvent(
             return Optional.empty();
         }
 
-        final Map<BlockPos, BlockTransaction> eventTransactions = new HashMap<>();
+        // Changes are merged per position, kept in capture order in a flat array
+        // with only an index per position instead of a map entry per transaction.
+        final BlockTransaction[] eventTransactions = new BlockTransaction[transactions.size()];
+        final Object2IntOpenHashMap<BlockPos> indices = new Object2IntOpenHashMap<>(transactions.size());
+        indices.defaultReturnValue(-1);
+        int size = 0;
         for (final GameTransaction<@NonNull ?> transaction : transactions) {
             final BlockEventBasedTransaction blockTransaction = (BlockEventBasedTransaction) transaction;
             if (!blockTransaction.actualBlockTransaction()) {
@@ -84,22 +90,26 @@ public final Optional<ChangeBlockEvent.All> generateEvent(
             final SpongeBlockSnapshot result = blockTransaction.getResultingSnapshot();
             final Operation operation = context.getBlockOperation(original, result);
             final BlockTransaction eventTransaction = new BlockTransaction(original, result, operation);
-            eventTransactions.merge(blockTransaction.affectedPosition, eventTransaction, (oldValue, newValue) -> {
-                final ImmutableList.Builder<BlockSnapshot> intermediary = ImmutableList.builderWithExpectedSize(oldValue.intermediary().size() + 1);
-                intermediary.addAll(oldValue.intermediary());
-                intermediary.add(oldValue.finalReplacement());
-                final Operation mergedOperation = context.getBlockOperation((SpongeBlockSnapshot) oldValue.original(), (SpongeBlockSnapshot) newValue.finalReplacement());
-                return new BlockTransaction(oldValue.original(), newValue.finalReplacement(), intermediary.build(), mergedOperation);
-            });
+            final int index = indices.putIfAbsent(blockTransaction.affectedPosition, size);
+            if (index == -1) {
+                eventTransactions[size++] = eventTransaction;
+                continue;
+            }
+            final BlockTransaction oldValue = eventTransactions[index];
+            final ImmutableList.Builder<BlockSnapshot> intermediary = ImmutableList.builderWithExpectedSize(oldValue.intermediary().size() + 1);
+            intermediary.addAll(oldValue.intermediary());
+            intermediary.add(oldValue.finalReplacement());
+            final Operation mergedOperation = context.getBlockOperation((SpongeBlockSnapshot) oldValue.original(), (SpongeBlockSnapshot) eventTransaction.finalReplacement());
+            eventTransactions[index] = new BlockTransaction(oldValue.original(), eventTransaction.finalReplacement(), intermediary.build(), mergedOperation);
         }
 
-        if (eventTransactions.isEmpty()) {
+        if (size == 0) {
             return Optional.empty();
         }
 
         return Optional.of(SpongeEventFactory.createChangeBlockEventAll(
             currentCause,
-            ImmutableList.copyOf(eventTransactions.values()),
+            ImmutableList.copyOf(Arrays.asList(eventTransactions).subList(0, size)),
             o.get()
         ));
     }
@@ -29,6 +29,7 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.block.ChangeBlockEvent;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
@@ -57,12 +58,15 @@
 @DefaultQualifier(NonNull.class)
 public final class ChangeBlock extends BlockEventBasedTransaction {
 
-    public final SpongeBlockSnapshot original;
-    final int originalOpacity;
-    final BlockState newState;
-    final SpongeBlockChangeFlag blockChangeFlag;
+    // Not final as ChangeBlocks are pooled by the TransactionalCaptureSupplier that recorded them,
+    // read it through #getOriginalSnapshot so a use after recycling is caught
+    private SpongeBlockSnapshot original;
+    int originalOpacity;
+    BlockState newState;
+    SpongeBlockChangeFlag blockChangeFlag;
     @Nullable public BlockEntity queuedRemoval;
     @Nullable public BlockEntity queuedAdd;
+    private boolean recycled;
 
     public ChangeBlock(
         final SpongeBlockSnapshot attachedSnapshot, final BlockState newState,
@@ -75,15 +79,58 @@ public ChangeBlock(
         this.originalOpacity = this.originalState.getLightBlock(this.original.getServerWorld().get(), this.affectedPosition);
     }
 
+    /**
+     * Re-initializes a recycled transaction for a new block change, as if it
+     * was newly constructed.
+     *
+     * @return This transaction
+     */
+    public ChangeBlock reinitialize(
+        final SpongeBlockSnapshot attachedSnapshot, final BlockState newState,
+        final SpongeBlockChangeFlag blockChange
+    ) {
+        this.affectedPosition = attachedSnapshot.getBlockPos().immutable();
+        this.originalState = (BlockState) attachedSnapshot.state();
+        this.worldKey = attachedSnapshot.world();
+        this.original = attachedSnapshot;
+        this.newState = newState;
+        this.blockChangeFlag = blockChange;
+        this.originalOpacity = this.originalState.getLightBlock(this.original.getServerWorld().get(), this.affectedPosition);
+        this.recycled = false;
+        return this;
+    }
+
+    /**
+     * Releases everything this transaction references so it can be pooled.
+     * Until it is {@link #reinitialize re-initialized}, any further use
+     * throws an {@link IllegalStateException}.
+     */
+    public void recycle() {
+        this.clearTransactionState();
+        this.original = (SpongeBlockSnapshot) BlockSnapshot.empty();
+        this.queuedRemoval = null;
+        this.queuedAdd = null;
+        this.recycled = true;
+    }
+
+    private void checkNotRecycled() {
+        if (this.recycled) {
+            throw new IllegalStateException("ChangeBlock at " + this.affectedPosition + " was used after it was recycled");
+        }
+    }
+
     public BlockState getNewState() {
+        this.checkNotRecycled();
         return this.newState;
     }
 
     public SpongeBlockChangeFlag getBlockChangeFlag() {
+        this.checkNotRecycled();
         return this.blockChangeFlag;
     }
 
     public void populateChunkEffects(final ChunkPipeline.Builder builder) {
+        this.checkNotRecycled();
 
         builder.addEffect(SetBlockToChunkSectionEffect.getInstance());
         builder.addEffect(UpdateHeightMapEffect.getInstance());
@@ -155,6 +202,7 @@ public boolean acceptTileReplacement(final @Nullable BlockEntity existing, final
 
     @Override
     public void restore(PhaseContext<?> context, ChangeBlockEvent.All event) {
+        this.checkNotRecycled();
         this.original.restore(true, BlockChangeFlagManager.fromNativeInt(Constants.BlockChangeFlags.FORCED_RESTORE));
     }
 
@@ -170,6 +218,7 @@ public void addToPrinter(final PrettyPrinter printer) {
 
     @Override
     protected SpongeBlockSnapshot getResultingSnapshot() {
+        this.checkNotRecycled();
         final SpongeBlockSnapshot.BuilderImpl builder = SpongeBlockSnapshot.BuilderImpl.pooled()
                 .position(this.original.position())
                 .blockState((org.spongepowered.api.block.BlockState) this.newState);
@@ -182,7 +231,8 @@ protected SpongeBlockSnapshot getResultingSnapshot() {
     }
 
     @Override
-    protected SpongeBlockSnapshot getOriginalSnapshot() {
+    public SpongeBlockSnapshot getOriginalSnapshot() {
+        this.checkNotRecycled();
         return this.original;
     }
 
@@ -190,8 +240,9 @@ protected SpongeBlockSnapshot getOriginalSnapshot() {
     public boolean absorbBlockDropsPreparation(
         final PhaseContext<@NonNull ?> context, final PrepareBlockDropsTransaction transaction
     ) {
-        return this.original.blockChange == BlockChange.BREAK
+        final SpongeBlockSnapshot original = this.getOriginalSnapshot();
+        return original.blockChange == BlockChange.BREAK
             && this.affectedPosition.equals(transaction.affectedPosition)
-            && this.original.state() == transaction.getOriginalSnapshot().state();
+            && original.state() == transaction.getOriginalSnapshot().state();
     }
 }
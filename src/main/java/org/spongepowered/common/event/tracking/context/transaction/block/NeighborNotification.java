@@ -48,23 +48,34 @@
 import org.spongepowered.common.world.server.SpongeLocatableBlockBuilder;
 import org.spongepowered.math.vector.Vector3i;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
+/**
+ * The neighbor notifications performed back to back in a world, which in
+ * redstone heavy phases vastly outnumber any other transaction. Positions are
+ * packed as longs and states as their ids so each notification costs a few
+ * array slots, the {@link NotificationTicket tickets} are only built once the
+ * {@link NotifyNeighborBlockEvent} or a cause frame needs them.
+ */
 public final class NeighborNotification extends WorldBasedTransaction<NotifyNeighborBlockEvent> {
-    final BlockState original;
-    final BlockPos notifyPos;
-    final Block sourceBlock;
-    final BlockPos sourcePos;
-    // State definitions
-    final BlockPos affectedPosition;
-    final BlockState originalState;
+
+    private static final int INITIAL_CAPACITY = 4;
+
     private final Supplier<ServerLevel> serverWorld;
-    private Supplier<LocatableBlock> locatableBlock;
-    private Supplier<SpongeBlockSnapshot> targetSnapshot;
-    private Supplier<NotificationTicket> ticketSupplier;
+    private int size;
+    private long[] notifyPositions = new long[NeighborNotification.INITIAL_CAPACITY];
+    private int[] notifyStates = new int[NeighborNotification.INITIAL_CAPACITY];
+    private long[] sourcePositions = new long[NeighborNotification.INITIAL_CAPACITY];
+    private int[] sourceStates = new int[NeighborNotification.INITIAL_CAPACITY];
+    private int[] sourceBlocks = new int[NeighborNotification.INITIAL_CAPACITY];
+    // Only the rare notifications of block entities need this
+    private @Nullable BlockEntity @Nullable [] blockEntities;
+    private @Nullable NotificationTicket @Nullable [] tickets;
 
     public NeighborNotification(
         final Supplier<ServerLevel> serverWorldSupplier,
@@ -73,57 +84,111 @@ public NeighborNotification(
         final @Nullable BlockEntity existingTile
     ) {
         super(TransactionTypes.NEIGHBOR_NOTIFICATION.get(), ((org.spongepowered.api.world.server.ServerWorld) serverWorldSupplier.get()).key());
-        this.affectedPosition = sourcePos;
-        this.originalState = notifyState;
         this.serverWorld = serverWorldSupplier;
-        this.notifyPos = notifyPos;
-        this.sourceBlock = sourceBlock;
-        this.sourcePos = sourcePos;
-        this.original = serverWorldSupplier.get().getBlockState(sourcePos);
-        // This is one way to have lazily initialized fields
-        this.locatableBlock = () -> {
-            final LocatableBlock locatableBlock = new SpongeLocatableBlockBuilder()
-                .world(this.serverWorld)
-                .position(this.sourcePos.getX(), this.sourcePos.getY(), this.sourcePos.getZ())
-                .state((org.spongepowered.api.block.BlockState) this.original)
-                .build();
-            this.locatableBlock = () -> locatableBlock;
-            return locatableBlock;
-        };
-        this.targetSnapshot = () -> {
-            final SpongeBlockSnapshot.BuilderImpl pooled = SpongeBlockSnapshot.BuilderImpl.pooled();
-            pooled.world(this.serverWorld.get())
-                .position(new Vector3i(notifyPos.getX(), notifyPos.getY(), notifyPos.getZ()))
-                .blockState(notifyState);
-            if (existingTile != null) {
-                pooled.tileEntity(existingTile);
+        this.add(serverWorldSupplier.get(), notifyState, notifyPos, sourceBlock, sourcePos, existingTile);
+    }
+
+    /**
+     * Adds the notification to this transaction if it directly follows the
+     * already recorded ones, that is nothing was recorded as a side effect of
+     * them and it is in the same world.
+     *
+     * @return Whether the notification was added
+     */
+    public boolean tryAppend(
+        final ServerLevel world,
+        final BlockState notifyState, final BlockPos notifyPos,
+        final Block sourceBlock, final BlockPos sourcePos,
+        final @Nullable BlockEntity existingTile
+    ) {
+        if (this.tickets != null || this.hasSideEffects() || this.serverWorld.get() != world) {
+            return false;
+        }
+        this.add(world, notifyState, notifyPos, sourceBlock, sourcePos, existingTile);
+        return true;
+    }
+
+    private void add(
+        final ServerLevel world,
+        final BlockState notifyState, final BlockPos notifyPos,
+        final Block sourceBlock, final BlockPos sourcePos,
+        final @Nullable BlockEntity existingTile
+    ) {
+        final int index = this.size;
+        if (index == this.notifyPositions.length) {
+            final int capacity = index << 1;
+            this.notifyPositions = Arrays.copyOf(this.notifyPositions, capacity);
+            this.notifyStates = Arrays.copyOf(this.notifyStates, capacity);
+            this.sourcePositions = Arrays.copyOf(this.sourcePositions, capacity);
+            this.sourceStates = Arrays.copyOf(this.sourceStates, capacity);
+            this.sourceBlocks = Arrays.copyOf(this.sourceBlocks, capacity);
+            if (this.blockEntities != null) {
+                this.blockEntities = Arrays.copyOf(this.blockEntities, capacity);
+            }
+        }
+        this.notifyPositions[index] = notifyPos.asLong();
+        this.notifyStates[index] = Block.getId(notifyState);
+        this.sourcePositions[index] = sourcePos.asLong();
+        this.sourceStates[index] = Block.getId(world.getBlockState(sourcePos));
+        this.sourceBlocks[index] = Block.getId(sourceBlock.defaultBlockState());
+        if (existingTile != null) {
+            if (this.blockEntities == null) {
+                this.blockEntities = new BlockEntity[this.notifyPositions.length];
             }
-            final SpongeBlockSnapshot snapshot = pooled.build();
-            this.targetSnapshot = () -> snapshot;
-            return snapshot;
-        };
-        this.ticketSupplier = () -> {
-            final LocatableBlock notifier = this.locatableBlock.get();
-            final SpongeBlockSnapshot target = this.targetSnapshot.get();
-            final SpongeNotificationTicket ticket = new SpongeNotificationTicket(notifier, target);
-            this.ticketSupplier = () -> ticket;
-            return ticket;
-        };
+            this.blockEntities[index] = existingTile;
+        }
+        this.size = index + 1;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    private NotificationTicket[] tickets() {
+        if (this.tickets == null) {
+            final NotificationTicket[] tickets = new NotificationTicket[this.size];
+            for (int i = 0; i < this.size; i++) {
+                tickets[i] = this.createTicket(i);
+            }
+            this.tickets = tickets;
+        }
+        return this.tickets;
+    }
+
+    private NotificationTicket createTicket(final int index) {
+        final long sourcePos = this.sourcePositions[index];
+        final LocatableBlock notifier = new SpongeLocatableBlockBuilder()
+            .world(this.serverWorld)
+            .position(BlockPos.getX(sourcePos), BlockPos.getY(sourcePos), BlockPos.getZ(sourcePos))
+            .state((org.spongepowered.api.block.BlockState) Block.stateById(this.sourceStates[index]))
+            .build();
+        final long notifyPos = this.notifyPositions[index];
+        final SpongeBlockSnapshot.BuilderImpl pooled = SpongeBlockSnapshot.BuilderImpl.pooled();
+        pooled.world(this.serverWorld.get())
+            .position(new Vector3i(BlockPos.getX(notifyPos), BlockPos.getY(notifyPos), BlockPos.getZ(notifyPos)))
+            .blockState(Block.stateById(this.notifyStates[index]));
+        final @Nullable BlockEntity existingTile = this.blockEntities == null ? null : this.blockEntities[index];
+        if (existingTile != null) {
+            pooled.tileEntity(existingTile);
+        }
+        return new SpongeNotificationTicket(notifier, pooled.build());
     }
 
     @Override
     public String toString() {
-        return new StringJoiner(
+        final StringJoiner joiner = new StringJoiner(
             ", ",
             NeighborNotification.class.getSimpleName() + "[",
             "]"
-        )
-            .add("notifyState=" + this.originalState)
-            .add("notifyPos=" + this.notifyPos)
-            .add("sourceBlock=" + this.sourceBlock)
-            .add("sourcePos=" + this.sourcePos)
-            .add("actualSourceState=" + this.originalState)
-            .toString();
+        );
+        for (int i = 0; i < this.size; i++) {
+            joiner.add("{notifyState=" + Block.stateById(this.notifyStates[i])
+                + ", notifyPos=" + BlockPos.of(this.notifyPositions[i])
+                + ", sourceBlock=" + Block.stateById(this.sourceBlocks[i]).getBlock()
+                + ", sourcePos=" + BlockPos.of(this.sourcePositions[i])
+                + ", actualSourceState=" + Block.stateById(this.sourceStates[i]) + "}");
+        }
+        return joiner.toString();
     }
 
     @Override
@@ -132,17 +197,22 @@ public String toString() {
     ) {
         return Optional.of((context, frame) -> {
             if (parent instanceof ChangeBlock) {
-                frame.pushCause(((ChangeBlock) parent).original);
+                frame.pushCause(((ChangeBlock) parent).getOriginalSnapshot());
             }
-            frame.pushCause(this.ticketSupplier.get());
+            // Anything caused by this transaction was caused by its latest
+            // notification, as none are added once it has side effects
+            final NotificationTicket[] tickets = this.tickets();
+            frame.pushCause(tickets[tickets.length - 1]);
         });
     }
 
     @Override
     public void addToPrinter(final PrettyPrinter printer) {
-        printer.add("NeighborNotification")
-            .add(" %s : %s, %s", "Source Pos", this.sourceBlock, this.sourcePos)
-            .add(" %s : %s, %s", "Notification", this.originalState, this.notifyPos);
+        printer.add("NeighborNotification");
+        for (int i = 0; i < this.size; i++) {
+            printer.add(" %s : %s, %s", "Source Pos", Block.stateById(this.sourceBlocks[i]).getBlock(), BlockPos.of(this.sourcePositions[i]))
+                .add(" %s : %s, %s", "Notification", Block.stateById(this.notifyStates[i]), BlockPos.of(this.notifyPositions[i]));
+        }
     }
 
     @SuppressWarnings("UnstableApiUsage")
@@ -153,11 +223,12 @@ public Optional<NotifyNeighborBlockEvent> generateEvent(
         final ImmutableList<GameTransaction<NotifyNeighborBlockEvent>> transactions,
         final Cause currentCause
     ) {
-        final ImmutableList<NotificationTicket> tickets = transactions.stream()
-            .map(transaction -> ((NeighborNotification) transaction).ticketSupplier.get())
-            .collect(ImmutableList.toImmutableList());
+        final ImmutableList.Builder<NotificationTicket> tickets = ImmutableList.builder();
+        for (final GameTransaction<NotifyNeighborBlockEvent> transaction : transactions) {
+            tickets.add(((NeighborNotification) transaction).tickets());
+        }
 
-        return Optional.of(SpongeEventFactory.createNotifyNeighborBlockEvent(currentCause, tickets));
+        return Optional.of(SpongeEventFactory.createNotifyNeighborBlockEvent(currentCause, tickets.build()));
     }
 
     @Override
@@ -170,26 +241,32 @@ public boolean markCancelledTransactions(final NotifyNeighborBlockEvent event,
         final ImmutableList<? extends GameTransaction<NotifyNeighborBlockEvent>> blockTransactions
     ) {
         boolean cancelledAny = false;
-        for (final NotificationTicket transaction : event.tickets()) {
-            if (!transaction.valid()) {
+        for (final GameTransaction<NotifyNeighborBlockEvent> gameTransaction : blockTransactions) {
+            final NeighborNotification notification = (NeighborNotification) gameTransaction;
+            // Only the latest notification can have side effects to restore,
+            // the ones before it were performed already, so an invalidated
+            // ticket of theirs is simply dropped.
+            if (notification.invalidatedTickets().get(notification.size - 1)) {
+                gameTransaction.markCancelled();
                 cancelledAny = true;
-                for (final GameTransaction<NotifyNeighborBlockEvent> gameTransaction : blockTransactions) {
-                    final NeighborNotification blockTransaction = (NeighborNotification) gameTransaction;
-                    final Vector3i position = transaction.targetPosition();
-                    final BlockPos affectedPosition = blockTransaction.affectedPosition;
-                    if (position.x() == affectedPosition.getX()
-                            && position.y() == affectedPosition.getY()
-                            && position.z() == affectedPosition.getZ()
-                    ) {
-                        gameTransaction.markCancelled();
-                    }
-                }
             }
         }
 
         return cancelledAny;
     }
 
+    private BitSet invalidatedTickets() {
+        final BitSet invalidated = new BitSet(this.size);
+        if (this.tickets != null) {
+            for (int i = 0; i < this.tickets.length; i++) {
+                if (!this.tickets[i].valid()) {
+                    invalidated.set(i);
+                }
+            }
+        }
+        return invalidated;
+    }
+
     @Override
     public void markEventAsCancelledIfNecessary(final NotifyNeighborBlockEvent event) {
         super.markEventAsCancelledIfNecessary(event);
@@ -46,10 +46,13 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 public final class ChunkPipeline implements BlockPipeline {
 
+    private static final LongAdder ELIDED_WRITES = new LongAdder();
+
     private final @Nullable Supplier<LevelChunk> chunkSupplier;
     private final @Nullable Supplier<ServerLevel> serverWorld;
     private final @Nullable Supplier<LevelChunkSection> sectionSupplier;
@@ -61,6 +64,25 @@ public static ChunkPipeline nullReturn(final LevelChunk chunk, final ServerLevel
         return new ChunkPipeline(chunk, world);
     }
 
+    /**
+     * Records a block write that was skipped because it would have set the
+     * state that is already present, which has no effect in the chunk and
+     * so is neither processed nor captured as a transaction.
+     */
+    public static void recordElidedWrite() {
+        ChunkPipeline.ELIDED_WRITES.increment();
+    }
+
+    /**
+     * Gets the number of block writes skipped since the server started
+     * because they would have set an identical state.
+     *
+     * @return The number of skipped writes
+     */
+    public static long elidedWrites() {
+        return ChunkPipeline.ELIDED_WRITES.sum();
+    }
+
     private ChunkPipeline(final LevelChunk chunk, final ServerLevel world) {
         final WeakReference<LevelChunk> chunkWeakReference = new WeakReference<>(chunk);
         this.chunkSupplier = () -> chunkWeakReference.get();
@@ -100,8 +100,8 @@ protected void captureState() {
     ) {
         return Optional.of((context, frame) -> {
             if (parent instanceof ChangeBlock) {
-                frame.pushCause(((ChangeBlock) parent).original);
-                frame.addContext(EventContextKeys.BLOCK_TARGET, ((ChangeBlock) parent).original);
+                frame.pushCause(((ChangeBlock) parent).getOriginalSnapshot());
+                frame.addContext(EventContextKeys.BLOCK_TARGET, ((ChangeBlock) parent).getOriginalSnapshot());
             }
             frame.addContext(EventContextKeys.SPAWN_TYPE, this.deducedSpawnType);
         });
@@ -36,7 +36,8 @@
 
 public abstract class WorldBasedTransaction<E extends Event & Cancellable> extends GameTransaction<E> {
 
-    protected final ResourceKey worldKey;
+    // Not final so pooled transactions can be re-initialized
+    protected ResourceKey worldKey;
 
     protected WorldBasedTransaction(
         final TransactionType<? super E> transactionType,
@@ -59,6 +59,7 @@ public BlockTickContext source(final Object owner) {
                     .setBulkBlockCaptures(trackable.bridge$allowsBlockBulkCaptures())
                     .setEntitySpawnEvents(trackable.bridge$allowsEntityEventCreation())
                     .setBulkEntityCaptures(trackable.bridge$allowsEntityBulkCaptures());
+                this.sampleTrackable(trackable);
             }
         }
         return this;
@@ -43,6 +43,7 @@ public EntityTickContext source(final Object owner) {
             this.setBlockEvents(mixinEntity.bridge$allowsBlockEventCreation());
             this.setBulkEntityCaptures(mixinEntity.bridge$allowsEntityBulkCaptures());
             this.setEntitySpawnEvents(mixinEntity.bridge$allowsEntityEventCreation());
+            this.sampleTrackable(mixinEntity);
         }
         return super.source(owner);
     }
@@ -58,6 +58,7 @@ public FluidTickContext source(final Object owner) {
                     .setBulkBlockCaptures(trackable.bridge$allowsBlockBulkCaptures())
                     .setEntitySpawnEvents(trackable.bridge$allowsEntityEventCreation())
                     .setBulkEntityCaptures(trackable.bridge$allowsEntityBulkCaptures());
+                this.sampleTrackable(trackable);
             }
         }
         return this;
@@ -41,6 +41,7 @@ public TileEntityTickContext source(final Object owner) {
                 .setBulkBlockCaptures(mixinTileentity.bridge$allowsBlockBulkCaptures())
                 .setEntitySpawnEvents(mixinTileentity.bridge$allowsEntityEventCreation())
                 .setBulkEntityCaptures(mixinTileentity.bridge$allowsEntityBulkCaptures());
+            this.sampleTrackable(mixinTileentity);
         }
         return this;
     }
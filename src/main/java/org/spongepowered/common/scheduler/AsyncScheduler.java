@@ -26,16 +26,27 @@
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.util.PrettyPrinter;
+import org.spongepowered.plugin.PluginContainer;
 
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
@@ -48,19 +59,29 @@ public final class AsyncScheduler extends SpongeScheduler {
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
     private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                                                                                   .setNameFormat("Sponge-AsyncScheduler-%d")
-                                                                                   .build());
+    // The executor of asynchronous tasks, either a dynamic thread pool or one virtual thread per task.
+    private final ExecutorService executor;
+    // The maximum number of concurrently executing tasks per plugin, 0 if unlimited
+    private final int pluginConcurrency;
+    private final Map<PluginContainer, PluginLane> lanes = new ConcurrentHashMap<>();
     private volatile boolean running = true;
 
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
 
     public AsyncScheduler() {
         super("A");
 
+        final SchedulerCategory config = SpongeConfigs.getCommon().get().scheduler;
+        if (config.asyncThreadMode == SchedulerCategory.AsyncThreadMode.VIRTUAL) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Sponge-AsyncScheduler-Virtual-", 0).factory());
+        } else {
+            this.executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                                                                  .setNameFormat("Sponge-AsyncScheduler-%d")
+                                                                  .build());
+        }
+        this.pluginConcurrency = Math.max(0, config.asyncPluginConcurrency);
+
         final Thread thread = new Thread(AsyncScheduler.this::mainLoop);
         thread.setName("Sponge Async Scheduler Thread");
         thread.setDaemon(true);
@@ -68,7 +89,6 @@ public AsyncScheduler() {
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (this.running) {
             this.recalibrateMinimumTimeout();
             this.runTick();
@@ -78,40 +98,8 @@ private void mainLoop() {
     private void recalibrateMinimumTimeout() {
         this.lock.lock();
         try {
-            final Set<ScheduledTask> tasks = this.tasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            final long now = System.nanoTime();
-            for (final ScheduledTask tmpTask : tasks) {
-                final SpongeScheduledTask task = (SpongeScheduledTask) tmpTask;
-                if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.task.delay == 0 && task.task.interval == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                final long timeSinceLast = now - task.timestamp();
-
-                if (task.task.delay > 0 && task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an delay and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.task.delay - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.task.interval > 0 && task.state().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.task.interval - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                final long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
+            // Executing tasks are not queued, we'll signal when they complete.
+            this.minimumTimeout = this.nanosUntilNextTask();
         } finally {
             this.lock.unlock();
         }
@@ -122,6 +110,7 @@ protected void addTask(final SpongeScheduledTask task) {
         this.lock.lock();
         try {
             super.addTask(task);
+            this.stateChanged.set(true);
             this.condition.signalAll();
         } finally {
             this.lock.unlock();
@@ -147,11 +136,6 @@ protected void preTick() {
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
     @Override
     protected void finallyPostTick() {
         this.lock.unlock();
@@ -171,12 +155,91 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
     }
 
     @Override
-    protected void executeRunnable(final Runnable runnable) {
-        this.executor.submit(runnable);
+    protected void executeRunnable(final PluginContainer plugin, final Runnable runnable) {
+        this.lanes.computeIfAbsent(plugin, k -> new PluginLane()).execute(runnable);
+    }
+
+    /**
+     * Gets the number of queued and executing tasks for every plugin that
+     * has submitted an asynchronous task.
+     *
+     * @return The task counts by plugin
+     */
+    public Map<PluginContainer, LaneMetrics> laneMetrics() {
+        final Map<PluginContainer, LaneMetrics> metrics = new HashMap<>();
+        this.lanes.forEach((plugin, lane) -> metrics.put(plugin, lane.metrics()));
+        return metrics;
+    }
+
+    /**
+     * The snapshot of the tasks of a plugin in the async scheduler.
+     *
+     * @param queued The number of tasks waiting for a free concurrency slot
+     * @param running The number of tasks currently executing
+     * @param completed The total number of completed tasks
+     */
+    public record LaneMetrics(int queued, int running, long completed) {
+    }
+
+    /**
+     * The tasks of a single plugin, limiting how many of them can execute at
+     * the same time.
+     */
+    private final class PluginLane {
+
+        private final Queue<Runnable> queued = new ArrayDeque<>();
+        private int running;
+        private long completed;
+
+        void execute(final Runnable runnable) {
+            synchronized (this) {
+                if (AsyncScheduler.this.pluginConcurrency > 0 && this.running >= AsyncScheduler.this.pluginConcurrency) {
+                    this.queued.add(runnable);
+                    return;
+                }
+                this.running++;
+            }
+            this.submit(runnable);
+        }
+
+        private void submit(final Runnable runnable) {
+            try {
+                AsyncScheduler.this.executor.execute(() -> this.run(runnable));
+            } catch (final RejectedExecutionException e) {
+                synchronized (this) {
+                    this.running--;
+                }
+                throw e;
+            }
+        }
+
+        private void run(final Runnable runnable) {
+            try {
+                runnable.run();
+            } finally {
+                final @Nullable Runnable next;
+                synchronized (this) {
+                    this.completed++;
+                    next = this.queued.poll();
+                    if (next == null) {
+                        this.running--;
+                    }
+                }
+                if (next != null) {
+                    this.submit(next);
+                }
+            }
+        }
+
+        synchronized LaneMetrics metrics() {
+            return new LaneMetrics(this.queued.size(), this.running, this.completed);
+        }
+
     }
 
     public <T> CompletableFuture<T> submit(final Callable<T> callable) {
-        return this.asyncFailableFuture(callable, this.executor);
+        // Counted against the concurrency of Sponge itself, like the tasks it schedules
+        return this.asyncFailableFuture(callable, runnable -> this.executeRunnable(Launch.instance().commonPlugin(), runnable));
     }
 
     private <T> CompletableFuture<T> asyncFailableFuture(Callable<T> call, Executor exec) {
@@ -40,8 +40,15 @@ public final class SpongeScheduledTask implements ScheduledTask {
     final SpongeTask task;
     private final UUID uniqueId;
     private final String name;
+    private final SpongeTaskMetrics metrics = new SpongeTaskMetrics();
 
     private long timestamp;
+    // The timestamp at which the task is next due and its position among tasks
+    // due at the same timestamp, only accessed by the ticking thread
+    private long dueTimestamp;
+    private long queueOrder;
+    // The System#nanoTime at which the task became due when a tick budget is used
+    private long dueSince;
     private ScheduledTaskState state;
     private boolean isCancelled = false;
 
@@ -80,6 +87,7 @@ public boolean cancel() {
                 || this.state() == ScheduledTaskState.EXECUTING;
         this.state = ScheduledTaskState.CANCELED;
         this.isCancelled = true;
+        this.scheduler.cancelTask(this);
         return success;
     }
 
@@ -88,6 +96,10 @@ public boolean isCancelled() {
         return this.isCancelled;
     }
 
+    public SpongeTaskMetrics metrics() {
+        return this.metrics;
+    }
+
     long timestamp() {
         return this.timestamp;
     }
@@ -96,6 +108,27 @@ void setTimestamp(final long timestamp) {
         this.timestamp = timestamp;
     }
 
+    long dueTimestamp() {
+        return this.dueTimestamp;
+    }
+
+    long queueOrder() {
+        return this.queueOrder;
+    }
+
+    long dueSince() {
+        return this.dueSince;
+    }
+
+    void setDueSince(final long dueSince) {
+        this.dueSince = dueSince;
+    }
+
+    void setDueTimestamp(final long dueTimestamp, final long queueOrder) {
+        this.dueTimestamp = dueTimestamp;
+        this.queueOrder = queueOrder;
+    }
+
     /**
      * Returns a timestamp after which the next execution will take place.
      * Should only be compared to
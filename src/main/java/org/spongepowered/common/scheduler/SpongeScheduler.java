@@ -37,14 +37,21 @@
 import org.spongepowered.common.launch.Launch;
 import org.spongepowered.plugin.PluginContainer;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -55,15 +62,39 @@
 public abstract class SpongeScheduler implements Scheduler {
 
     private static final AtomicInteger TASK_CREATED_COUNTER = new AtomicInteger();
+    private static final Comparator<SpongeScheduledTask> DUE_ORDER = Comparator.comparingLong(SpongeScheduledTask::dueTimestamp)
+            .thenComparingLong(SpongeScheduledTask::queueOrder);
 
     private static final int TICK_DURATION_MS = 50;
+    // The number of cancelled tasks after which they are purged from the due queues
+    private static final int COMPACTION_THRESHOLD = 256;
     static final long TICK_DURATION_NS = TimeUnit.NANOSECONDS.convert(SpongeScheduler.TICK_DURATION_MS, TimeUnit.MILLISECONDS);
 
     private final String tag;
 
     // The simple queue of all pending (and running) ScheduledTasks
     private final Map<UUID, SpongeScheduledTask> tasks = new ConcurrentHashMap<>();
+    private final Map<PluginContainer, SpongeTaskMetrics> pluginMetrics = new ConcurrentHashMap<>();
+    // Tasks that were added or finished executing since the last tick, may be
+    // written from any thread and are moved into the due queues when ticking
+    private final Queue<SpongeScheduledTask> pending = new ConcurrentLinkedQueue<>();
+    // The tasks ordered by the timestamp at which they are next due, one queue
+    // for real time and one for tick based timestamps. Only accessed by the
+    // ticking thread.
+    private final PriorityQueue<SpongeScheduledTask> realTimeQueue = new PriorityQueue<>(SpongeScheduler.DUE_ORDER);
+    private final PriorityQueue<SpongeScheduledTask> tickQueue = new PriorityQueue<>(SpongeScheduler.DUE_ORDER);
+    // The due tasks of each plugin when a tick budget is used, served in
+    // round-robin order. Only accessed by the ticking thread.
+    private final Queue<DeferredLane> deferredLanes = new ArrayDeque<>();
+    private final Map<PluginContainer, DeferredLane> deferredLanesByPlugin = new HashMap<>();
+    // Cancelled tasks stay in the due queues until polled, see #cancelTask
+    private final AtomicInteger cancelledSinceCompaction = new AtomicInteger();
     private long sequenceNumber = 0L;
+    private long queueSequence = 0L;
+    private volatile int deferredTasks;
+    private volatile long overflowedTicks;
+    private volatile long overflowedTasks;
+    private volatile long maxDeferredNanos;
 
     SpongeScheduler(final String tag) {
         this.tag = tag;
@@ -93,17 +124,86 @@ protected long timestamp(final boolean tickBased) {
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.timestamp(task.task.tickBasedDelay));
         this.tasks.put(task.uniqueId(), task);
+        this.pending.add(task);
     }
 
     /**
-     * Removes the task from the task map.
+     * Removes the task from the task map. Its entry in the due queues is
+     * discarded once it is polled.
      *
      * @param task The task to remove
      */
-    private void removeTask(final SpongeScheduledTask task) {
+    void removeTask(final SpongeScheduledTask task) {
         this.tasks.remove(task.uniqueId());
     }
 
+    /**
+     * Removes the cancelled task from the task map. The due queues may only be
+     * touched by the ticking thread, so once enough tasks were cancelled, which
+     * may otherwise sit in them for as long as their delay, the next tick purges
+     * them from the queues.
+     *
+     * @param task The cancelled task
+     */
+    void cancelTask(final SpongeScheduledTask task) {
+        this.removeTask(task);
+        this.cancelledSinceCompaction.incrementAndGet();
+    }
+
+    /**
+     * Gets whether tasks were added or have finished executing since they
+     * were last moved into the due queues.
+     *
+     * @return Whether there are pending tasks
+     */
+    protected boolean hasPendingTasks() {
+        return !this.pending.isEmpty();
+    }
+
+    /**
+     * Gets the time in nanoseconds until the next queued task is due, zero if
+     * a task is already due or {@link Long#MAX_VALUE} if no task is queued.
+     * Must only be called from the ticking thread.
+     *
+     * @return The time until the next task is due
+     */
+    protected long nanosUntilNextTask() {
+        if (this.hasPendingTasks() || !this.deferredLanes.isEmpty()) {
+            return 0;
+        }
+        final long realTime = SpongeScheduler.nanosUntilDue(this.realTimeQueue, this.timestamp(false));
+        final long tick = SpongeScheduler.nanosUntilDue(this.tickQueue, this.timestamp(true));
+        return Math.min(realTime, tick);
+    }
+
+    private static long nanosUntilDue(final PriorityQueue<SpongeScheduledTask> queue, final long now) {
+        final @Nullable SpongeScheduledTask next = queue.peek();
+        if (next == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, next.dueTimestamp() - now);
+    }
+
+    /**
+     * Queues the task for the moment at which its current threshold, either
+     * its delay or its interval, has passed.
+     *
+     * @param task The task to queue
+     */
+    private void queueTask(final SpongeScheduledTask task) {
+        final long threshold;
+        final boolean tickBased;
+        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
+            threshold = task.task.delay;
+            tickBased = task.task.tickBasedDelay;
+        } else {
+            threshold = task.task.interval;
+            tickBased = task.task.tickBasedInterval;
+        }
+        task.setDueTimestamp(task.timestamp() + threshold, this.queueSequence++);
+        (tickBased ? this.tickQueue : this.realTimeQueue).add(task);
+    }
+
     @Override
     public Optional<ScheduledTask> findTask(final UUID id) {
         Objects.requireNonNull(id, "id");
@@ -176,18 +276,155 @@ public SpongeScheduledTask submit(Task task, String name) {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     final void runTick() {
         this.preTick();
         try {
-            this.tasks.values().forEach(this::processTask);
+            @Nullable SpongeScheduledTask task;
+            while ((task = this.pending.poll()) != null) {
+                if (this.tasks.containsKey(task.uniqueId()) && !task.isCancelled()) {
+                    this.queueTask(task);
+                }
+            }
+            if (this.cancelledSinceCompaction.get() >= SpongeScheduler.COMPACTION_THRESHOLD) {
+                this.cancelledSinceCompaction.set(0);
+                this.realTimeQueue.removeIf(SpongeScheduledTask::isCancelled);
+                this.tickQueue.removeIf(SpongeScheduledTask::isCancelled);
+            }
+            final long budget = this.tickBudgetNanos();
+            if (budget <= 0 && this.deferredLanes.isEmpty()) {
+                this.processDueTasks(this.realTimeQueue, this.timestamp(false));
+                this.processDueTasks(this.tickQueue, this.timestamp(true));
+            } else {
+                this.deferDueTasks(this.realTimeQueue, this.timestamp(false));
+                this.deferDueTasks(this.tickQueue, this.timestamp(true));
+                this.processDeferredTasks(budget);
+            }
             this.postTick();
         } finally {
             this.finallyPostTick();
         }
     }
 
+    /**
+     * Processes the tasks of the queue that are due, leaving every task that
+     * is not yet due untouched.
+     *
+     * @param queue The queue
+     * @param now The current timestamp in the domain of the queue
+     */
+    private void processDueTasks(final PriorityQueue<SpongeScheduledTask> queue, final long now) {
+        @Nullable SpongeScheduledTask task;
+        while ((task = queue.peek()) != null && task.dueTimestamp() <= now) {
+            queue.poll();
+            this.processTask(task);
+        }
+    }
+
+    /**
+     * Moves the tasks of the queue that are due into the lane of their plugin.
+     *
+     * @param queue The queue
+     * @param now The current timestamp in the domain of the queue
+     */
+    private void deferDueTasks(final PriorityQueue<SpongeScheduledTask> queue, final long now) {
+        final long dueSince = System.nanoTime();
+        @Nullable SpongeScheduledTask task;
+        while ((task = queue.peek()) != null && task.dueTimestamp() <= now) {
+            queue.poll();
+            task.setDueSince(dueSince);
+            final PluginContainer plugin = task.task().plugin();
+            @Nullable DeferredLane lane = this.deferredLanesByPlugin.get(plugin);
+            if (lane == null) {
+                lane = new DeferredLane(plugin);
+                this.deferredLanesByPlugin.put(plugin, lane);
+                this.deferredLanes.add(lane);
+            }
+            lane.tasks.add(task);
+        }
+    }
+
+    /**
+     * Processes the due tasks one plugin at a time in a round-robin fashion
+     * until the budget of this tick is spent. Tasks that do not fit are kept
+     * for the next tick, where the lane that was not served continues first.
+     *
+     * @param budget The time budget of this tick in nanoseconds, or zero if unlimited
+     */
+    private void processDeferredTasks(final long budget) {
+        final long start = System.nanoTime();
+        @Nullable DeferredLane lane;
+        while ((lane = this.deferredLanes.poll()) != null) {
+            final SpongeScheduledTask task = lane.tasks.poll();
+            final long deferred = System.nanoTime() - task.dueSince();
+            if (deferred > this.maxDeferredNanos) {
+                this.maxDeferredNanos = deferred;
+            }
+            this.processTask(task);
+            if (lane.tasks.isEmpty()) {
+                this.deferredLanesByPlugin.remove(lane.plugin);
+            } else {
+                this.deferredLanes.add(lane);
+            }
+            if (budget > 0 && System.nanoTime() - start >= budget) {
+                break;
+            }
+        }
+        int remaining = 0;
+        for (final DeferredLane remainingLane : this.deferredLanes) {
+            remaining += remainingLane.tasks.size();
+        }
+        this.deferredTasks = remaining;
+        if (remaining > 0) {
+            this.overflowedTicks++;
+            this.overflowedTasks += remaining;
+        }
+    }
+
+    /**
+     * Gets the maximum time in nanoseconds that due tasks may be processed
+     * for in a single tick. Tasks that do not fit are carried into the next
+     * tick.
+     *
+     * @return The budget, or zero if unlimited
+     */
+    protected long tickBudgetNanos() {
+        return 0;
+    }
+
+    /**
+     * Gets how often due tasks did not fit in the tick budget and were carried
+     * into the next tick.
+     *
+     * @return The deferral metrics
+     */
+    public DeferralMetrics deferralMetrics() {
+        return new DeferralMetrics(this.deferredTasks, this.overflowedTicks, this.overflowedTasks, this.maxDeferredNanos);
+    }
+
+    /**
+     * A snapshot of the tasks that did not fit in the tick budget.
+     *
+     * @param deferredTasks The number of tasks currently carried into the next tick
+     * @param overflowedTicks The number of ticks whose due tasks exceeded the budget
+     * @param overflowedTasks The total number of times a task was carried into the next tick
+     * @param maxDeferredNanos The longest time a due task waited before being processed
+     */
+    public record DeferralMetrics(int deferredTasks, long overflowedTicks, long overflowedTasks, long maxDeferredNanos) {
+    }
+
+    private static final class DeferredLane {
+
+        final PluginContainer plugin;
+        final Queue<SpongeScheduledTask> tasks = new ArrayDeque<>();
+
+        DeferredLane(final PluginContainer plugin) {
+            this.plugin = plugin;
+        }
+
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -219,42 +456,19 @@ private void processTask(final SpongeScheduledTask task) {
             this.removeTask(task);
             return;
         }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
+        // If the task is already being processed, it is queued again once the
+        // previous occurrence terminates.
         if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
             return;
         }
-        final long threshold;
-        final boolean tickBased;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-            tickBased = task.task.tickBasedDelay;
-        } else if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-            tickBased = task.task.tickBasedInterval;
-        } else {
-            threshold = Long.MAX_VALUE;
-            tickBased = false;
-        }
-        // This moment is 'now'
-        final long now = this.timestamp(tickBased);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a interval of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.timestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            // It is always interval here because that's the only thing that matters
-            // at this point.
-            task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        // It is always interval here because that's the only thing that matters
+        // at this point.
+        task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
+        this.startTask(task);
+        // If task is one time shot, remove it from the map.
+        if (task.task.interval == 0L) {
+            this.removeTask(task);
         }
     }
 
@@ -264,8 +478,9 @@ private void processTask(final SpongeScheduledTask task) {
      * @param task The task to start
      */
     private void startTask(final SpongeScheduledTask task) {
-        this.executeRunnable(() -> {
+        this.executeRunnable(task.task().plugin(), () -> {
             task.setState(SpongeScheduledTask.ScheduledTaskState.EXECUTING);
+            final long start = System.nanoTime();
             try (final @Nullable PhaseContext<@NonNull ?> context = this.createContext(task, task.task().plugin())) {
                 if (context != null) {
                     context.buildAndSwitch();
@@ -277,14 +492,52 @@ private void startTask(final SpongeScheduledTask task) {
                             task.name(), task.task().plugin().metadata().id(), t);
                 }
             } finally {
+                this.recordExecution(task, System.nanoTime() - start);
                 if (!task.isCancelled()) {
                     task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+                    if (task.task.interval != 0L) {
+                        // Repeating tasks are queued again for their next interval
+                        this.pending.add(task);
+                    }
                 }
                 this.onTaskCompletion(task);
             }
         });
     }
 
+    private void recordExecution(final SpongeScheduledTask task, final long nanos) {
+        final long overruns = task.task.interval > 0 ? this.skippedIntervals(task) : 0;
+        task.metrics().record(nanos, overruns);
+        this.pluginMetrics.computeIfAbsent(task.task().plugin(), k -> new SpongeTaskMetrics()).record(nanos, overruns);
+    }
+
+    /**
+     * Gets how many intervals of the repeating task came due while it was
+     * executing and will not run. The timestamp of the task was set when it
+     * started, in the domain of its interval, and it is queued again for the
+     * first interval after it once it completes, which is then already due,
+     * so only the intervals after that one are skipped. Tick based intervals
+     * of synchronous tasks are never skipped, as no tick passes while they
+     * execute.
+     *
+     * @param task The task that just completed
+     * @return The number of skipped intervals
+     */
+    private long skippedIntervals(final SpongeScheduledTask task) {
+        final long elapsed = this.timestamp(task.task.tickBasedInterval) - task.timestamp();
+        return Math.max(0, elapsed / task.task.interval - 1);
+    }
+
+    /**
+     * Gets the execution statistics of all tasks ever executed by this
+     * scheduler, aggregated by the plugin that owns them.
+     *
+     * @return The statistics by plugin
+     */
+    public Map<PluginContainer, SpongeTaskMetrics> pluginMetrics() {
+        return Collections.unmodifiableMap(this.pluginMetrics);
+    }
+
     protected @Nullable PhaseContext<?> createContext(final SpongeScheduledTask task, final PluginContainer plugin) {
         return PluginPhase.State.SCHEDULED_TASK.createPhaseContext(PhaseTracker.getInstance())
                 .source(task)
@@ -299,7 +552,7 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
         // no-op for sync methods.
     }
 
-    protected void executeRunnable(final Runnable runnable) {
+    protected void executeRunnable(final PluginContainer plugin, final Runnable runnable) {
         runnable.run();
     }
 
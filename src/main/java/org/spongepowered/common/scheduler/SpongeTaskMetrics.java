@@ -0,0 +1,62 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.spongepowered.common.util.Timings;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The execution statistics of a single {@link SpongeScheduledTask}, or of all
+ * tasks of a plugin within a scheduler.
+ */
+public final class SpongeTaskMetrics extends Timings {
+
+    private final LongAdder overruns = new LongAdder();
+
+    void record(final long nanos, final long overruns) {
+        this.record(nanos);
+        if (overruns > 0) {
+            this.overruns.add(overruns);
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.overruns.reset();
+    }
+
+    /**
+     * Gets how many intervals of a repeating task were skipped because the
+     * task was still executing when they were due.
+     *
+     * @return The number of skipped intervals
+     */
+    public long overruns() {
+        return this.overruns.sum();
+    }
+
+}
@@ -24,6 +24,10 @@
  */
 package org.spongepowered.common.scheduler;
 
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+
+import java.util.concurrent.TimeUnit;
+
 public abstract class SyncScheduler extends SpongeScheduler {
 
     // The number of ticks elapsed since this scheduler began.
@@ -33,6 +37,11 @@ public abstract class SyncScheduler extends SpongeScheduler {
         super(tag);
     }
 
+    @Override
+    protected long tickBudgetNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(SpongeConfigs.getCommon().get().scheduler.syncTickBudget);
+    }
+
     /**
      * The hook to update the Ticks known by the SyncScheduler.
      */
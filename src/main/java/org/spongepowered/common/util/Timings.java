@@ -0,0 +1,127 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * The number, total and maximum duration of something measured by one of the
+ * profilers or metrics, along with the helpers they share to report them.
+ */
+public class Timings {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(final long nanos) {
+        this.count.increment();
+        this.totalNanos.add(nanos);
+        this.maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public void reset() {
+        this.count.reset();
+        this.totalNanos.reset();
+        this.maxNanos.set(0);
+    }
+
+    public long count() {
+        return this.count.sum();
+    }
+
+    public long totalNanos() {
+        return this.totalNanos.sum();
+    }
+
+    public long meanNanos() {
+        final long count = this.count();
+        return count == 0 ? 0 : this.totalNanos() / count;
+    }
+
+    public long maxNanos() {
+        return this.maxNanos.get();
+    }
+
+    /**
+     * Gets a copy of the given entries, ordered by their cost, highest first.
+     *
+     * @param entries The entries to sort
+     * @param cost The cost of an entry
+     * @param <T> The type of entries
+     * @return The sorted entries
+     */
+    public static <T> List<T> sorted(final Collection<? extends T> entries, final ToLongFunction<? super T> cost) {
+        final List<T> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.<T>comparingLong(cost).reversed());
+        return sorted;
+    }
+
+    /**
+     * Writes one line per entry to a new file in the {@code dumps} directory.
+     *
+     * @param name The name of the file, followed by the current time
+     * @param description What is written, for the log
+     * @param startedAt The {@link System#nanoTime()} the recording started at
+     * @param columns The tab separated names of the columns
+     * @param entries The entries to write
+     * @param line The tab separated columns of an entry
+     * @param <T> The type of entries
+     * @return The path of the written file
+     * @throws IOException If the file could not be written
+     */
+    public static <T> Path dump(final String name, final String description, final long startedAt, final String columns,
+        final Iterable<? extends T> entries, final Function<? super T, String> line
+    ) throws IOException {
+        final Path path = Path.of(".", "dumps",
+            name + "-" + DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(LocalDateTime.now()) + ".txt");
+        SpongeCommon.logger().info("Writing {} to: {}", description, path.toAbsolutePath());
+        Files.createDirectories(path.getParent());
+        try (final Writer writer = Files.newBufferedWriter(path)) {
+            writer.write("# Recorded for " + (System.nanoTime() - startedAt) / 1_000_000L + " ms\n");
+            writer.write("# " + columns + '\n');
+            for (final T entry : entries) {
+                writer.write(line.apply(entry) + '\n');
+            }
+        }
+        return path;
+    }
+
+}
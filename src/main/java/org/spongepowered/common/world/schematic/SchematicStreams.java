@@ -0,0 +1,392 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NumericTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.nbt.TagTypes;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.common.data.LazyByteArray;
+import org.spongepowered.common.data.MemoryDataView;
+import org.spongepowered.common.data.persistence.NBTTranslator;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads and writes the block and biome data of Sponge schematics as NBT
+ * without holding it in memory as a whole, which for large schematics takes
+ * several times the size of the volume itself.
+ *
+ * <p>The {@link SchematicTranslator} puts the data into its views as
+ * {@link VolumeData}, which the NBT
+ * {@link org.spongepowered.api.data.persistence.DataFormat} encodes straight
+ * from the schematic while it is written. When the format reads a schematic
+ * whose version, size, offset and palette come before its data, as the
+ * translator writes them, the data is decoded straight into a volume while it
+ * is read and is left in the container as {@link VolumeData} of that volume.
+ * The translator then uses the volume as it is, while anything else reading
+ * the container gets the data encoded back from the volume. Data that comes
+ * before the palette, and the data of older schematic versions, is read into
+ * memory like any other NBT.</p>
+ */
+public final class SchematicStreams {
+
+    private static final int PIECE_SIZE = 64 * 1024;
+
+    private SchematicStreams() {
+    }
+
+    /**
+     * Reads a named compound from the given NBT stream, decoding the data of
+     * a schematic in it straight into its volume. The stream is not closed.
+     *
+     * @param input The stream to read from
+     * @return The read compound
+     * @throws IOException If the stream could not be read
+     * @throws InvalidDataException If the data of a schematic is not valid
+     */
+    public static DataContainer read(final DataInputStream input) throws IOException, InvalidDataException {
+        if (input.readByte() != Tag.TAG_COMPOUND) {
+            throw new IOException("Root tag must be a named compound tag");
+        }
+        input.readUTF();
+        final Reader reader = new Reader(input);
+        final CompoundTag root = reader.readCompound(DataQuery.of());
+        final DataContainer container = NBTTranslator.INSTANCE.translateFrom(root);
+        for (final Map.Entry<DataQuery, VolumeData> decoded : reader.decoded.entrySet()) {
+            container.set(decoded.getKey().then(Constants.Sponge.Schematic.BLOCK_DATA), decoded.getValue());
+        }
+        return container;
+    }
+
+    /**
+     * Takes the volume the data of the given block or biome container was
+     * decoded into while it was read, if the data is still the one that was
+     * read and the volume is of the given size. The volume is only handed out
+     * once, later translations of the same container decode the data again.
+     */
+    static @Nullable SpongeArchetypeVolume decodedVolume(final DataView container, final Vector3i offset, final Vector3i size) {
+        if (container instanceof MemoryDataView memory
+            && memory.getRaw(Constants.Sponge.Schematic.BLOCK_DATA.asString('.')) instanceof VolumeData data) {
+            return data.claim(offset, size);
+        }
+        return null;
+    }
+
+    static int varIntSize(int id) {
+        int size = 1;
+        while ((id & -128) != 0) {
+            id >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    @FunctionalInterface
+    interface IdFunction {
+
+        int id(int x, int y, int z);
+
+    }
+
+    /**
+     * The ids of a volume, encoded as varints in the order of the schematic
+     * format as they are written. The data is encoded from the volume as it
+     * is when written, so the volume must only hold blocks or biomes the ids
+     * were assigned for, and as many of each as when the length was measured.
+     * Data that was read keeps following the volume it was decoded into after
+     * that volume was taken by a schematic.
+     */
+    static final class VolumeData extends LazyByteArray {
+
+        private final int length;
+        private final IdFunction ids;
+        private final Vector3i min;
+        private final Vector3i max;
+        // The volume the data was decoded into, until a schematic takes it
+        private @Nullable SpongeArchetypeVolume volume;
+
+        VolumeData(final long length, final IdFunction ids, final Vector3i min, final Vector3i max,
+            final @Nullable SpongeArchetypeVolume volume
+        ) {
+            if (length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Schematic data is too large to be written as NBT: " + length + " bytes");
+            }
+            this.length = (int) length;
+            this.ids = ids;
+            this.min = min;
+            this.max = max;
+            this.volume = volume;
+        }
+
+        synchronized @Nullable SpongeArchetypeVolume claim(final Vector3i offset, final Vector3i size) {
+            final @Nullable SpongeArchetypeVolume volume = this.volume;
+            if (volume == null || !volume.min().equals(offset) || !volume.size().equals(size)) {
+                return null;
+            }
+            this.volume = null;
+            return volume;
+        }
+
+        @Override
+        public int length() {
+            return this.length;
+        }
+
+        @Override
+        public void writeTo(final DataOutput output) throws IOException {
+            final byte[] piece = new byte[Math.min(this.length + 5, SchematicStreams.PIECE_SIZE)];
+            long written = 0;
+            int length = 0;
+            for (int y = this.min.y(); y <= this.max.y(); y++) {
+                for (int z = this.min.z(); z <= this.max.z(); z++) {
+                    for (int x = this.min.x(); x <= this.max.x(); x++) {
+                        if (length > piece.length - 5) {
+                            output.write(piece, 0, length);
+                            written += length;
+                            length = 0;
+                        }
+                        int id = this.ids.id(x, y, z);
+                        while ((id & -128) != 0) {
+                            piece[length++] = (byte) (id & 127 | 128);
+                            id >>>= 7;
+                        }
+                        piece[length++] = (byte) id;
+                    }
+                }
+            }
+            output.write(piece, 0, length);
+            written += length;
+            if (written != this.length) {
+                throw new IllegalStateException("Schematic data changed while it was written, expected "
+                    + this.length + " bytes but wrote " + written);
+            }
+        }
+
+    }
+
+    /**
+     * The version, size and offset of a schematic, as far as they have been
+     * read.
+     */
+    private static final class Header {
+
+        private int version;
+        private int width;
+        private int height;
+        private int length;
+        private @Nullable Vector3i offset;
+        private @Nullable SpongeArchetypeVolume volume;
+
+        void inspect(final String key, final Tag tag) {
+            if (tag instanceof NumericTag numeric) {
+                if (key.equals(Constants.Sponge.Schematic.VERSION.asString('.'))) {
+                    this.version = numeric.getAsInt();
+                } else if (key.equals(Constants.Sponge.Schematic.WIDTH.asString('.'))) {
+                    this.width = numeric.getAsShort() & 0xFFFF;
+                } else if (key.equals(Constants.Sponge.Schematic.HEIGHT.asString('.'))) {
+                    this.height = numeric.getAsShort() & 0xFFFF;
+                } else if (key.equals(Constants.Sponge.Schematic.LENGTH.asString('.'))) {
+                    this.length = numeric.getAsShort() & 0xFFFF;
+                }
+            } else if (tag instanceof IntArrayTag array && key.equals(Constants.Sponge.Schematic.OFFSET.asString('.'))) {
+                final int[] offset = array.getAsIntArray();
+                if (offset.length == 3) {
+                    this.offset = new Vector3i(offset[0], offset[1], offset[2]);
+                }
+            }
+        }
+
+        boolean canDecode() {
+            return this.version == Constants.Sponge.Schematic.CURRENT_VERSION
+                && this.width > 0 && this.height > 0 && this.length > 0
+                && this.offset != null;
+        }
+
+        long blockCount() {
+            return (long) this.width * this.height * this.length;
+        }
+
+        Vector3i max() {
+            return this.offset.add(this.width - 1, this.height - 1, this.length - 1);
+        }
+
+        SpongeArchetypeVolume volume() {
+            if (this.volume == null) {
+                this.volume = new SpongeArchetypeVolume(this.offset, new Vector3i(this.width, this.height, this.length), Sponge.server());
+            }
+            return this.volume;
+        }
+
+    }
+
+    private record Codec(VarIntVolumeDecoder decoder, IdFunction ids) {
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream in;
+        private final NbtAccounter accounter = NbtAccounter.unlimitedHeap();
+
+        // The paths of the block and biome containers whose data was decoded
+        final Map<DataQuery, VolumeData> decoded = new LinkedHashMap<>();
+
+        Reader(final DataInputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Reads the entries of the compound the reader is at. The root may
+         * either hold the schematic itself, or wrap it in a compound named
+         * {@code Schematic} as the current version does.
+         */
+        CompoundTag readCompound(final DataQuery path) throws IOException {
+            final CompoundTag compound = new CompoundTag();
+            final Header header = new Header();
+            byte type;
+            while ((type = this.in.readByte()) != Tag.TAG_END) {
+                final String key = this.in.readUTF();
+                if (type == Tag.TAG_COMPOUND && path.parts().isEmpty() && key.equals(Constants.Sponge.Schematic.SCHEMATIC.asString('.'))) {
+                    compound.put(key, this.readCompound(Constants.Sponge.Schematic.SCHEMATIC));
+                } else if (type == Tag.TAG_COMPOUND && key.equals(Constants.Sponge.Schematic.BLOCK_CONTAINER.asString('.'))) {
+                    compound.put(key, this.readContainer(path.then(key), header, true));
+                } else if (type == Tag.TAG_COMPOUND && key.equals(Constants.Sponge.Schematic.BIOME_CONTAINER.asString('.'))) {
+                    compound.put(key, this.readContainer(path.then(key), header, false));
+                } else {
+                    final Tag tag = this.readTag(type);
+                    compound.put(key, tag);
+                    header.inspect(key, tag);
+                }
+            }
+            return compound;
+        }
+
+        private CompoundTag readContainer(final DataQuery path, final Header header, final boolean blocks) throws IOException {
+            final CompoundTag container = new CompoundTag();
+            final String paletteKey = Constants.Sponge.Schematic.PALETTE.asString('.');
+            final String dataKey = Constants.Sponge.Schematic.BLOCK_DATA.asString('.');
+            @Nullable Codec codec = null;
+            byte type;
+            while ((type = this.in.readByte()) != Tag.TAG_END) {
+                final String key = this.in.readUTF();
+                if (type == Tag.TAG_BYTE_ARRAY && key.equals(dataKey) && codec != null) {
+                    final int length = this.decode(codec.decoder());
+                    this.decoded.put(path, new VolumeData(length, codec.ids(), header.offset, header.max(), header.volume()));
+                    continue;
+                }
+                final Tag tag = this.readTag(type);
+                container.put(key, tag);
+                if (tag instanceof CompoundTag palette && key.equals(paletteKey) && header.canDecode()) {
+                    final DataView paletteView = NBTTranslator.INSTANCE.translateFrom(palette);
+                    try {
+                        codec = blocks ? this.blockCodec(header, paletteView) : this.biomeCodec(header, paletteView);
+                    } catch (final RuntimeException e) {
+                        // Left to the translator to report, the data is read as it is
+                        codec = null;
+                    }
+                }
+            }
+            return container;
+        }
+
+        /**
+         * Creates the codec of the block data, unless several ids of the
+         * palette resolve to the same state, like blocks of missing mods do,
+         * in which case the data can't be encoded back as it was read.
+         */
+        private @Nullable Codec blockCodec(final Header header, final DataView palette) {
+            final @Nullable BlockState[] statesById = SchematicTranslator.readBlockPalette(palette, header.blockCount());
+            final Reference2IntOpenHashMap<BlockState> ids = new Reference2IntOpenHashMap<>(statesById.length);
+            ids.defaultReturnValue(-1);
+            for (int id = 0; id < statesById.length; id++) {
+                if (statesById[id] != null && ids.put(statesById[id], id) != -1) {
+                    return null;
+                }
+            }
+            final SpongeArchetypeVolume volume = header.volume();
+            return new Codec(SchematicTranslator.blockDecoder(header.width, header.length, header.offset, statesById, volume), (x, y, z) -> {
+                final int id = ids.getInt(volume.block(x, y, z));
+                if (id == -1) {
+                    throw new IllegalStateException("Block at " + x + ", " + y + ", " + z + " is not in the palette it was read with");
+                }
+                return id;
+            });
+        }
+
+        private Codec biomeCodec(final Header header, final DataView palette) {
+            final MutableBimapPalette<Biome, Biome> biomes = SchematicTranslator.readBiomePalette(palette);
+            final SpongeArchetypeVolume volume = header.volume();
+            return new Codec(SchematicTranslator.biomeDecoder(header.width, header.length, header.offset, biomes, volume),
+                (x, y, z) -> biomes.get(volume.biome(x, y, z)).orElseThrow(
+                    () -> new IllegalStateException("Biome at " + x + ", " + y + ", " + z + " is not in the palette it was read with")));
+        }
+
+        /**
+         * Decodes the data the reader is at into the volume, in pieces.
+         *
+         * @return The length of the data
+         */
+        private int decode(final VarIntVolumeDecoder decoder) throws IOException {
+            final int length = this.in.readInt();
+            if (length < 0) {
+                throw new InvalidDataException("Negative length of schematic data: " + length);
+            }
+            final byte[] piece = new byte[Math.min(length, SchematicStreams.PIECE_SIZE)];
+            int remaining = length;
+            while (remaining > 0) {
+                final int read = Math.min(remaining, piece.length);
+                this.in.readFully(piece, 0, read);
+                decoder.decode(piece, 0, read);
+                remaining -= read;
+            }
+            decoder.finish();
+            return length;
+        }
+
+        private Tag readTag(final byte type) throws IOException {
+            return TagTypes.getType(type).load(this.in, this.accounter);
+        }
+
+    }
+
+}
@@ -53,8 +53,6 @@
 import org.spongepowered.api.world.schematic.PaletteTypes;
 import org.spongepowered.api.world.schematic.Schematic;
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
-import org.spongepowered.api.world.volume.biome.BiomeVolume;
-import org.spongepowered.api.world.volume.block.BlockVolume;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.block.BlockStateSerializerDeserializer;
 import org.spongepowered.common.block.entity.SpongeBlockEntityArchetypeBuilder;
@@ -65,11 +63,11 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -191,21 +189,35 @@ public Schematic translate(final DataView unprocessed) throws InvalidDataExcepti
         }
 
         final Vector3i offset = new Vector3i(offsetArray[0], offsetArray[1], offsetArray[2]);
-        final SpongeArchetypeVolume archetypeVolume = new SpongeArchetypeVolume(
-            offset, new Vector3i(width, height, length),
-            Sponge.server()
-        );
+        final Vector3i size = new Vector3i(width, height, length);
+        // The NBT format may have decoded the block and biome data into a volume already
+        final @Nullable SpongeArchetypeVolume decodedBlocks = updatedView.getView(Constants.Sponge.Schematic.BLOCK_CONTAINER)
+            .map(blocks -> SchematicStreams.decodedVolume(blocks, offset, size))
+            .orElse(null);
+        final @Nullable SpongeArchetypeVolume decodedBiomes = updatedView.getView(Constants.Sponge.Schematic.BIOME_CONTAINER)
+            .map(biomes -> SchematicStreams.decodedVolume(biomes, offset, size))
+            .orElse(null);
+        final SpongeArchetypeVolume archetypeVolume;
+        if (decodedBlocks != null) {
+            archetypeVolume = decodedBlocks;
+        } else if (decodedBiomes != null) {
+            archetypeVolume = decodedBiomes;
+        } else {
+            archetypeVolume = new SpongeArchetypeVolume(offset, size, Sponge.server());
+        }
+        final boolean blocksDecoded = decodedBlocks == archetypeVolume;
+        final boolean biomesDecoded = decodedBiomes == archetypeVolume;
 
         updatedView.getView(Constants.Sponge.Schematic.BLOCK_CONTAINER)
             .ifPresent(
                 blocks -> SchematicTranslator.deserializeBlockContainer(blocks, archetypeVolume, width, length,
-                    offset, needsFixers
+                    offset, needsFixers, blocksDecoded
                 ));
 
         updatedView.getView(Constants.Sponge.Schematic.BIOME_CONTAINER)
             .ifPresent(
                 biomes -> SchematicTranslator.deserializeBiomeContainer(biomes, archetypeVolume, width, length,
-                    offset
+                    offset, biomesDecoded
                 ));
 
 
@@ -280,34 +292,19 @@ private static void deserializeBlockContainer(
         final int width,
         final int length,
         final Vector3i offset,
-        final boolean needsFixers
+        final boolean needsFixers,
+        final boolean decoded
     ) {
-        final MutableBimapPalette<BlockState, BlockType> palette;
-        final DataView paletteMap = view.getView(Constants.Sponge.Schematic.BLOCK_PALETTE)
-            .orElseThrow(() -> new InvalidDataException("Missing BlockPalette as required by Schematic Specification"));
-        final Set<DataQuery> paletteKeys = paletteMap.keys(false);
-        // If we had a default palette_max we don't want to allocate all
-        // that space for nothing so we use a sensible default instead
-        palette = new MutableBimapPalette<>(
-            PaletteTypes.BLOCK_STATE_PALETTE.get(),
-            Sponge.game().registry(RegistryTypes.BLOCK_TYPE),
-            RegistryTypes.BLOCK_TYPE,
-            paletteKeys.size()
-        );
-        for (final DataQuery key : paletteKeys) {
-            final BlockState state = BlockStateSerializerDeserializer.deserialize(key.parts().get(0))
-                .orElseGet(() -> BlockTypes.BEDROCK.get().defaultState());
-            palette.assign(state, paletteMap.getInt(key)
-                .orElseThrow(() -> new IllegalStateException("Somehow got a missing biome in the palette map for schematic"))
-            );
+        if (!decoded) {
+            final DataView paletteMap = view.getView(Constants.Sponge.Schematic.BLOCK_PALETTE)
+                .orElseThrow(() -> new InvalidDataException("Missing BlockPalette as required by Schematic Specification"));
+            final VarIntVolumeDecoder decoder = SchematicTranslator.blockDecoder(width, length, offset,
+                SchematicTranslator.readBlockPalette(paletteMap, (long) width * archetypeVolume.size().y() * length), archetypeVolume);
+            final byte[] data = (byte[]) view.get(Constants.Sponge.Schematic.BLOCK_DATA)
+                .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
+            decoder.decode(data, 0, data.length);
+            decoder.finish();
         }
-
-        final byte[] blockData = (byte[]) view.get(Constants.Sponge.Schematic.BLOCK_DATA)
-            .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
-        SchematicTranslator.readByteArrayData(
-            width, (width * length), offset, new CachingPalette.MutableImpl<>(palette), blockData, archetypeVolume,
-            BlockVolume.Modifiable::setBlock
-        );
         view.getViewList(Constants.Sponge.Schematic.BLOCKENTITY_CONTAINER)
             .ifPresent(tileData ->
                 tileData.forEach(
@@ -315,20 +312,82 @@ private static void deserializeBlockContainer(
             );
     }
 
+    /**
+     * Resolves the block palette of a schematic once, into an array indexed
+     * by the ids used in its block data. Ids are bounded by the size of the
+     * palette or the number of blocks in the volume, whichever is larger, so
+     * the array is never larger than the volume it is used for.
+     */
+    static @Nullable BlockState[] readBlockPalette(final DataView paletteMap, final long blockCount) {
+        final Set<DataQuery> paletteKeys = paletteMap.keys(false);
+        final long idLimit = Math.max(paletteKeys.size(), blockCount);
+        final int[] paletteIds = new int[paletteKeys.size()];
+        final BlockState[] paletteStates = new BlockState[paletteKeys.size()];
+        int highestId = -1;
+        int entry = 0;
+        for (final DataQuery key : paletteKeys) {
+            paletteStates[entry] = BlockStateSerializerDeserializer.deserialize(key.parts().get(0))
+                .orElseGet(() -> BlockTypes.BEDROCK.get().defaultState());
+            paletteIds[entry] = paletteMap.getInt(key)
+                .orElseThrow(() -> new IllegalStateException("Somehow got a missing biome in the palette map for schematic"));
+            if (paletteIds[entry] < 0) {
+                throw new InvalidDataException("Negative id in the BlockPalette of the Schematic: " + key);
+            }
+            if (paletteIds[entry] >= idLimit) {
+                throw new InvalidDataException("Id " + paletteIds[entry] + " in the BlockPalette of the Schematic is out of range: " + key);
+            }
+            highestId = Math.max(highestId, paletteIds[entry]);
+            entry++;
+        }
+        final @Nullable BlockState[] statesById = new BlockState[highestId + 1];
+        for (int i = 0; i < paletteIds.length; i++) {
+            statesById[paletteIds[i]] = paletteStates[i];
+        }
+        return statesById;
+    }
+
+    /**
+     * Creates a decoder writing the varint block data straight into the ids of
+     * the block buffer of the volume, without any palette lookup per block.
+     */
+    static VarIntVolumeDecoder blockDecoder(final int width, final int length, final Vector3i offset,
+        final @Nullable BlockState[] statesById, final SpongeArchetypeVolume archetypeVolume
+    ) {
+        final ArrayMutableBlockBuffer buffer = archetypeVolume.blockBuffer();
+        final int[] bufferIds = buffer.assignAll(statesById);
+        return new VarIntVolumeDecoder(width, archetypeVolume.size().y(), length, offset, (x, y, z, id) -> {
+            if (id < 0 || id >= statesById.length || statesById[id] == null) {
+                throw new InvalidDataException("Unknown BlockPalette id in Schematic BlockData: " + id);
+            }
+            buffer.setBlockId(x, y, z, bufferIds[id]);
+        });
+    }
+
     private static void deserializeBiomeContainer(
         final DataView view,
         final SpongeArchetypeVolume archetypeVolume,
         final int width,
         final int length,
-        final Vector3i offset
+        final Vector3i offset,
+        final boolean decoded
     ) {
-        final MutableBimapPalette<Biome, Biome> biomePalette;
+        if (decoded) {
+            return;
+        }
         final DataView biomeMap = view.getView(Constants.Sponge.Schematic.BIOME_PALETTE)
             .orElseThrow(() -> new InvalidDataException("Missing BiomePalette as required by the schematic spec"));
+        final VarIntVolumeDecoder decoder = SchematicTranslator.biomeDecoder(width, length, offset,
+            SchematicTranslator.readBiomePalette(biomeMap), archetypeVolume);
+        final byte[] data = (byte[]) view.get(Constants.Sponge.Schematic.BIOME_DATA)
+            .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
+        decoder.decode(data, 0, data.length);
+        decoder.finish();
+    }
 
+    static MutableBimapPalette<Biome, Biome> readBiomePalette(final DataView biomeMap) {
         final Set<DataQuery> biomeKeys = biomeMap.keys(false);
         final Registry<Biome> biomeRegistry = VolumeStreamUtils.nativeToSpongeRegistry(SpongeCommon.server().registryAccess().registryOrThrow(Registries.BIOME));
-        biomePalette = new MutableBimapPalette<>(
+        final MutableBimapPalette<Biome, Biome> biomePalette = new MutableBimapPalette<>(
             PaletteTypes.BIOME_PALETTE.get(),
             biomeRegistry,
             RegistryTypes.BIOME,
@@ -340,57 +399,14 @@ private static void deserializeBiomeContainer(
             final Biome biome = biomeRegistry.findValue(key).get();
             biomePalette.assign(biome, biomeMap.getInt(biomeKey).get());
         }
-        final byte[] biomeData = (byte[]) view.get(Constants.Sponge.Schematic.BIOME_DATA)
-            .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
-        SchematicTranslator.readByteArrayData(
-            width, (width * length), offset, biomePalette, biomeData, archetypeVolume,
-            BiomeVolume.Modifiable::setBiome
-        );
+        return biomePalette;
     }
 
-
-    static interface PostSetter<V, T> {
-
-        void apply(V volume, int x, int y, int z, T type);
-    }
-
-    private static <Buffer, Type, ParentType> void readByteArrayData(
-        final int width,
-        final int i1,
-        final Vector3i offset,
-        final Palette<Type, ParentType> palette,
-        final byte[] data,
-        final Buffer buffer,
-        final PostSetter<Buffer, Type> setter
+    static VarIntVolumeDecoder biomeDecoder(final int width, final int length, final Vector3i offset,
+        final Palette<Biome, Biome> palette, final SpongeArchetypeVolume archetypeVolume
     ) {
-        int index = 0;
-        int i = 0;
-        int value = 0;
-        int varint_length = 0;
-        while (i < data.length) {
-            value = 0;
-            varint_length = 0;
-
-            while (true) {
-                value |= (data[i] & 127) << (varint_length++ * 7);
-                if (varint_length > 5) {
-                    throw new RuntimeException("VarInt too big (probably corrupted data)");
-                }
-                if ((data[i] & 128) != 128) {
-                    i++;
-                    break;
-                }
-                i++;
-            }
-            // index = (y * length + z) * width + x
-            final int y = index / i1;
-            final int z = (index % i1) / width;
-            final int x = (index % i1) % width;
-            final Type state = palette.get(value, Sponge.game()).get();
-            setter.apply(buffer, x + offset.x(), y + offset.y(), z + offset.z(), state);
-
-            index++;
-        }
+        return new VarIntVolumeDecoder(width, archetypeVolume.size().y(), length, offset,
+            (x, y, z, id) -> archetypeVolume.setBiome(x, y, z, palette.get(id, Sponge.game()).get()));
     }
 
     @Override
@@ -403,6 +419,8 @@ public DataContainer translate(final Schematic schematic) throws InvalidDataExce
 
     @Override
     public DataView addTo(final Schematic schematic, final DataView data) {
+        final Palette.Mutable<BlockState, BlockType> palette = schematic.blockPalette().asMutable(Sponge.server());
+        final Palette.Mutable<Biome, Biome> biomePalette = schematic.biomePalette().asMutable(Sponge.game());
         final int xMin = schematic.min().x();
         final int yMin = schematic.min().y();
         final int zMin = schematic.min().z();
@@ -432,24 +450,18 @@ public DataView addTo(final Schematic schematic, final DataView data) {
         // Check if we have blocks to store
         if (schematic.blockPalette().highestId() != 0) {
             final DataView blockData = data.createView(Constants.Sponge.Schematic.BLOCK_CONTAINER);
-            final Palette.Mutable<BlockState, BlockType> palette = schematic.blockPalette().asMutable(
-                Sponge.server());
-            try (final ByteArrayOutputStream buffer = new ByteArrayOutputStream(width * height * length)) {
-                for (int y = 0; y < height; y++) {
-                    final int y0 = yMin + y;
-                    for (int z = 0; z < length; z++) {
-                        final int z0 = zMin + z;
-                        for (int x = 0; x < width; x++) {
-                            final int x0 = xMin + x;
-                            final BlockState state = schematic.block(x0, y0, z0);
-                            SchematicTranslator.writeIdToBuffer(buffer, palette.orAssign(state));
-                        }
+            // Only measure the data here, it is encoded from the schematic once it is written
+            long dataLength = 0;
+            for (int y = 0; y < height; y++) {
+                final int y0 = yMin + y;
+                for (int z = 0; z < length; z++) {
+                    final int z0 = zMin + z;
+                    for (int x = 0; x < width; x++) {
+                        final int x0 = xMin + x;
+                        final BlockState state = schematic.block(x0, y0, z0);
+                        dataLength += SchematicStreams.varIntSize(palette.orAssign(state));
                     }
                 }
-
-                blockData.set(Constants.Sponge.Schematic.BLOCK_DATA, buffer.toByteArray());
-            } catch (final IOException e) {
-                // should never reach here
             }
 
 
@@ -460,6 +472,10 @@ public DataView addTo(final Schematic schematic, final DataView data) {
                 blockData, palette, blockRegistry, Constants.Sponge.Schematic.BLOCK_PALETTE, BlockState::type,
                 requiredMods
             );
+            blockData.set(Constants.Sponge.Schematic.BLOCK_DATA, new SchematicStreams.VolumeData(dataLength,
+                (x, y, z) -> palette.get(schematic.block(x, y, z)).orElseThrow(SchematicTranslator::changedSchematic),
+                schematic.min(), schematic.max(), null
+            ));
 
             final List<DataView> blockEntities = schematic.blockEntityArchetypes().entrySet().stream().map(entry -> {
                 final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
@@ -484,26 +500,17 @@ public DataView addTo(final Schematic schematic, final DataView data) {
 
         if (schematic.biomePalette().highestId() != 0) {
             final DataView biomeContainer = data.createView(Constants.Sponge.Schematic.BIOME_CONTAINER);
-            final Palette.Mutable<Biome, Biome> biomePalette = schematic.biomePalette().asMutable(
-                Sponge.game());
-
-            try (final ByteArrayOutputStream buffer = new ByteArrayOutputStream(width * height * length)) {
-                for (int y = 0; y < height; y++) {
-                    final int y0 = yMin + y;
-                    for (int z = 0; z < length; z++) {
-                        final int z0 = zMin + z;
-                        for (int x = 0; x < width; x++) {
-                            final int x0 = xMin + x;
-                            final Biome state = schematic.biome(x0, y0, z0);
-                            SchematicTranslator.writeIdToBuffer(buffer, biomePalette.orAssign(state));
-                        }
-
+            long dataLength = 0;
+            for (int y = 0; y < height; y++) {
+                final int y0 = yMin + y;
+                for (int z = 0; z < length; z++) {
+                    final int z0 = zMin + z;
+                    for (int x = 0; x < width; x++) {
+                        final int x0 = xMin + x;
+                        final Biome state = schematic.biome(x0, y0, z0);
+                        dataLength += SchematicStreams.varIntSize(biomePalette.orAssign(state));
                     }
                 }
-
-                biomeContainer.set(Constants.Sponge.Schematic.BIOME_DATA, buffer.toByteArray());
-            } catch (final IOException e) {
-                // Should never reach here.
             }
 
             final Registry<Biome> biomeRegistry = VolumeStreamUtils.nativeToSpongeRegistry(SpongeCommon.server().registryAccess().registryOrThrow(Registries.BIOME));
@@ -512,6 +519,10 @@ public DataView addTo(final Schematic schematic, final DataView data) {
                 biomeContainer, biomePalette, biomeRegistry, Constants.Sponge.Schematic.BIOME_PALETTE,
                 Function.identity(), requiredMods
             );
+            biomeContainer.set(Constants.Sponge.Schematic.BIOME_DATA, new SchematicStreams.VolumeData(dataLength,
+                (x, y, z) -> biomePalette.get(schematic.biome(x, y, z)).orElseThrow(SchematicTranslator::changedSchematic),
+                schematic.min(), schematic.max(), null
+            ));
         }
 
         final List<DataView> entities = schematic.entityArchetypesByPosition().stream().map(entry -> {
@@ -566,6 +577,10 @@ private static <T, P> void writePaletteToView(
         });
     }
 
+    private static IllegalStateException changedSchematic() {
+        return new IllegalStateException("The schematic was changed after it was translated");
+    }
+
     public static void writeIdToBuffer(final ByteArrayOutputStream buffer, final int orAssign) {
         int id = orAssign;
 
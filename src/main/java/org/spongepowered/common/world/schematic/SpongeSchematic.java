@@ -29,11 +29,14 @@
 import org.spongepowered.api.block.entity.BlockEntityArchetype;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.entity.EntityArchetype;
+import org.spongepowered.api.event.cause.entity.SpawnType;
 import org.spongepowered.api.fluid.FluidState;
 import org.spongepowered.api.util.transformation.Transformation;
+import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.biome.Biome;
 import org.spongepowered.api.world.schematic.Palette;
 import org.spongepowered.api.world.schematic.Schematic;
+import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.api.world.volume.archetype.ArchetypeVolume;
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
 import org.spongepowered.api.world.volume.stream.StreamOptions;
@@ -48,6 +51,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public class SpongeSchematic extends AbstractVolumeBuffer implements Schematic, SpongeArchetypeVolumeDataHolder {
@@ -164,6 +168,18 @@ public VolumeStream<ArchetypeVolume, BlockState> blockStateStream(final Vector3i
         return this.volume.blockStateStream(min, max, options);
     }
 
+    @Override
+    public void applyToWorld(final ServerWorld target, final Vector3i placement, final Supplier<SpawnType> spawnContext) {
+        this.volume.applyToWorld(target, placement, spawnContext);
+    }
+
+    @Override
+    public void applyToWorld(final ServerWorld target, final Vector3i placement, final Supplier<SpawnType> spawnContext,
+        final BlockChangeFlag flag
+    ) {
+        this.volume.applyToWorld(target, placement, spawnContext, flag);
+    }
+
     @Override
     public void addEntity(final EntityArchetypeEntry entry) {
         this.volume.addEntity(entry);
@@ -0,0 +1,105 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * Decodes the varint encoded palette ids of a schematic's block or biome data,
+ * stored in {@code (y * length + z) * width + x} order. The data may be fed in
+ * pieces of any size, so it can be decoded as it is read from a stream without
+ * ever being held in memory as a whole.
+ */
+final class VarIntVolumeDecoder {
+
+    private final int width;
+    private final int height;
+    private final int length;
+    private final int offsetX;
+    private final int offsetY;
+    private final int offsetZ;
+    private final IdConsumer consumer;
+
+    private int x;
+    private int y;
+    private int z;
+    private int value;
+    private int varintLength;
+
+    VarIntVolumeDecoder(final int width, final int height, final int length, final Vector3i offset, final IdConsumer consumer) {
+        this.width = width;
+        this.height = height;
+        this.length = length;
+        this.offsetX = offset.x();
+        this.offsetY = offset.y();
+        this.offsetZ = offset.z();
+        this.consumer = consumer;
+    }
+
+    void decode(final byte[] data, final int from, final int to) {
+        int value = this.value;
+        int varintLength = this.varintLength;
+        for (int i = from; i < to; i++) {
+            final byte b = data[i];
+            value |= (b & 127) << (varintLength++ * 7);
+            if (varintLength > 5) {
+                throw new RuntimeException("VarInt too big (probably corrupted data)");
+            }
+            if ((b & 128) == 128) {
+                continue;
+            }
+            if (this.y == this.height) {
+                throw new InvalidDataException("Schematic data holds more entries than fit in its size");
+            }
+            this.consumer.accept(this.x + this.offsetX, this.y + this.offsetY, this.z + this.offsetZ, value);
+            value = 0;
+            varintLength = 0;
+            if (++this.x == this.width) {
+                this.x = 0;
+                if (++this.z == this.length) {
+                    this.z = 0;
+                    this.y++;
+                }
+            }
+        }
+        this.value = value;
+        this.varintLength = varintLength;
+    }
+
+    void finish() {
+        if (this.varintLength != 0) {
+            throw new InvalidDataException("Schematic data ends in the middle of a VarInt");
+        }
+    }
+
+    @FunctionalInterface
+    interface IdConsumer {
+
+        void accept(int x, int y, int z, int id);
+
+    }
+
+}
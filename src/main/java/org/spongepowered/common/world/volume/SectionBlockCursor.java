@@ -0,0 +1,235 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.function.Supplier;
+
+/**
+ * A reusable cursor over the block states of a region, reading them straight
+ * from the {@link PalettedContainer} of each {@link LevelChunkSection} instead
+ * of looking every position up through the world.
+ *
+ * <p>The cursor walks chunks along x then z, their sections from the bottom up
+ * and each section in the order of its storage. Sections holding a single
+ * state are detected from their palette once, after which their positions are
+ * visited without decoding the storage at all. Chunks that cannot be provided
+ * are skipped, as are positions outside of the height of the world.</p>
+ */
+final class SectionBlockCursor implements Supplier<org.spongepowered.api.block.BlockState> {
+
+    private final ChunkLookup chunks;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+
+    private int chunkX;
+    private int chunkZ;
+    private @Nullable ChunkAccess chunk;
+    private int sectionIndex;
+    private int lastSectionIndex;
+    private @Nullable PalettedContainer<BlockState> states;
+    private @Nullable BlockState uniform;
+
+    private int x0;
+    private int x1;
+    private int y0;
+    private int y1;
+    private int z0;
+    private int z1;
+    private int baseY;
+
+    private int lx;
+    private int ly;
+    private int lz;
+    private @MonotonicNonNull BlockState state;
+
+    SectionBlockCursor(final ChunkLookup chunks, final Vector3i min, final Vector3i max) {
+        this.chunks = chunks;
+        this.minX = min.x();
+        this.minY = min.y();
+        this.minZ = min.z();
+        this.maxX = max.x();
+        this.maxY = max.y();
+        this.maxZ = max.z();
+        this.chunkX = this.minX >> 4;
+        this.chunkZ = (this.minZ >> 4) - 1;
+    }
+
+    /**
+     * Counts the positions a cursor over the given region would visit, without
+     * reading any of their states.
+     *
+     * @param chunks The chunks of the region
+     * @param min The minimum position
+     * @param max The maximum position
+     * @return The number of positions
+     */
+    static long count(final ChunkLookup chunks, final Vector3i min, final Vector3i max) {
+        long count = 0;
+        for (int chunkX = min.x() >> 4; chunkX <= max.x() >> 4; chunkX++) {
+            for (int chunkZ = min.z() >> 4; chunkZ <= max.z() >> 4; chunkZ++) {
+                final @Nullable ChunkAccess chunk = chunks.chunk(chunkX, chunkZ);
+                if (chunk == null) {
+                    continue;
+                }
+                final int yMin = Math.max(min.y(), chunk.getMinBuildHeight());
+                final int yMax = Math.min(max.y(), chunk.getMaxBuildHeight() - 1);
+                if (yMin > yMax) {
+                    continue;
+                }
+                final int xMin = Math.max(min.x(), chunkX << 4);
+                final int xMax = Math.min(max.x(), (chunkX << 4) + 15);
+                final int zMin = Math.max(min.z(), chunkZ << 4);
+                final int zMax = Math.min(max.z(), (chunkZ << 4) + 15);
+                count += (long) (xMax - xMin + 1) * (zMax - zMin + 1) * (yMax - yMin + 1);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Moves the cursor to the next position.
+     *
+     * @return False if there are no positions left
+     */
+    boolean advance() {
+        if (this.states == null) {
+            if (!this.nextSection()) {
+                return false;
+            }
+        } else if (this.lx < this.x1) {
+            this.lx++;
+        } else if (this.lz < this.z1) {
+            this.lx = this.x0;
+            this.lz++;
+        } else if (this.ly < this.y1) {
+            this.lx = this.x0;
+            this.lz = this.z0;
+            this.ly++;
+        } else if (!this.nextSection()) {
+            return false;
+        }
+        this.state = this.uniform != null ? this.uniform : this.states.get(this.lx, this.ly, this.lz);
+        return true;
+    }
+
+    int x() {
+        return (this.chunkX << 4) + this.lx;
+    }
+
+    int y() {
+        return this.baseY + this.ly;
+    }
+
+    int z() {
+        return (this.chunkZ << 4) + this.lz;
+    }
+
+    BlockState state() {
+        return this.state;
+    }
+
+    @Override
+    public org.spongepowered.api.block.BlockState get() {
+        return (org.spongepowered.api.block.BlockState) this.state;
+    }
+
+    private boolean nextSection() {
+        while (this.chunk == null || this.sectionIndex >= this.lastSectionIndex) {
+            if (!this.nextChunk()) {
+                this.states = null;
+                return false;
+            }
+        }
+        this.sectionIndex++;
+        final LevelChunkSection section = this.chunk.getSection(this.sectionIndex);
+        this.baseY = SectionPos.sectionToBlockCoord(this.chunk.getSectionYFromSectionIndex(this.sectionIndex));
+        this.y0 = this.baseY == (this.minY & ~15) ? this.minY & 15 : 0;
+        this.y1 = this.baseY == (this.maxY & ~15) ? this.maxY & 15 : 15;
+        this.states = section.getStates();
+        this.uniform = SectionBlockCursor.uniformState(this.states);
+        this.lx = this.x0;
+        this.ly = this.y0;
+        this.lz = this.z0;
+        return true;
+    }
+
+    private boolean nextChunk() {
+        do {
+            if (this.chunkZ < this.maxZ >> 4) {
+                this.chunkZ++;
+            } else if (this.chunkX < this.maxX >> 4) {
+                this.chunkX++;
+                this.chunkZ = this.minZ >> 4;
+            } else {
+                this.chunk = null;
+                return false;
+            }
+            this.chunk = this.chunks.chunk(this.chunkX, this.chunkZ);
+        } while (this.chunk == null || !this.enterChunk(this.chunk));
+        return true;
+    }
+
+    private boolean enterChunk(final ChunkAccess chunk) {
+        final int first = Math.max(chunk.getSectionIndexFromSectionY(this.minY >> 4), 0);
+        this.lastSectionIndex = Math.min(chunk.getSectionIndexFromSectionY(this.maxY >> 4), chunk.getSectionsCount() - 1);
+        this.sectionIndex = first - 1;
+        this.x0 = this.chunkX == this.minX >> 4 ? this.minX & 15 : 0;
+        this.x1 = this.chunkX == this.maxX >> 4 ? this.maxX & 15 : 15;
+        this.z0 = this.chunkZ == this.minZ >> 4 ? this.minZ & 15 : 0;
+        this.z1 = this.chunkZ == this.maxZ >> 4 ? this.maxZ & 15 : 15;
+        return first <= this.lastSectionIndex;
+    }
+
+    /**
+     * Gets the only state of the container, if its palette cannot hold any
+     * other state. This is the case for empty sections and for sections that
+     * were filled with a single block.
+     */
+    private static @Nullable BlockState uniformState(final PalettedContainer<BlockState> states) {
+        final BlockState first = states.get(0, 0, 0);
+        return states.maybeHas(state -> state != first) ? null : first;
+    }
+
+    @FunctionalInterface
+    interface ChunkLookup {
+
+        @Nullable ChunkAccess chunk(int chunkX, int chunkZ);
+
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.api.world.volume.stream.VolumeConsumer;
+import org.spongepowered.api.world.volume.stream.VolumeElement;
+import org.spongepowered.api.world.volume.stream.VolumePredicate;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.StreamSupport;
+
+/**
+ * A block {@link org.spongepowered.api.world.volume.stream.VolumeStream} over
+ * the chunk sections of a world, see {@link SectionBlockCursor}.
+ *
+ * <p>The terminal operations taking a {@link VolumeConsumer} or a
+ * {@link VolumePredicate} are served by a single cursor and do not create any
+ * objects per position, and {@link #count()} does not read any states. All
+ * other operations create their {@link VolumeElement}s as they are pulled
+ * from the stream.</p>
+ *
+ * @param <V> The type of volume
+ */
+final class SectionBlockVolumeStream<V extends Volume> extends SpongeVolumeStream<V, BlockState> {
+
+    private final SectionBlockCursor.ChunkLookup chunks;
+    private final Vector3i min;
+    private final Vector3i max;
+
+    SectionBlockVolumeStream(final Supplier<V> volumeSupplier, final SectionBlockCursor.ChunkLookup chunks,
+        final Vector3i min, final Vector3i max
+    ) {
+        super(StreamSupport.stream(
+            () -> new ElementSpliterator<>(volumeSupplier, new SectionBlockCursor(chunks, min, max)),
+            Spliterator.ORDERED | Spliterator.NONNULL,
+            false
+        ), volumeSupplier);
+        this.chunks = chunks;
+        this.min = min;
+        this.max = max;
+    }
+
+    @Override
+    public long count() {
+        return SectionBlockCursor.count(this.chunks, this.min, this.max);
+    }
+
+    @Override
+    public boolean allMatch(final VolumePredicate<V, ? super BlockState> predicate) {
+        return !this.anyMatch(predicate, false);
+    }
+
+    @Override
+    public boolean noneMatch(final VolumePredicate<V, ? super BlockState> predicate) {
+        return !this.anyMatch(predicate, true);
+    }
+
+    @Override
+    public boolean anyMatch(final VolumePredicate<V, ? super BlockState> predicate) {
+        return this.anyMatch(predicate, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean anyMatch(final VolumePredicate<V, ? super BlockState> predicate, final boolean expected) {
+        final VolumePredicate<V, BlockState> test = (VolumePredicate<V, BlockState>) predicate;
+        final V volume = this.volume();
+        final SectionBlockCursor cursor = new SectionBlockCursor(this.chunks, this.min, this.max);
+        while (cursor.advance()) {
+            // The cursor moves on, so the predicate gets the state it is at now
+            final BlockState state = cursor.get();
+            if (test.test(volume, () -> state, cursor.x(), cursor.y(), cursor.z()) == expected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEach(final VolumeConsumer<V, BlockState> visitor) {
+        this.startPhase(() -> {
+            final V volume = this.volume();
+            final SectionBlockCursor cursor = new SectionBlockCursor(this.chunks, this.min, this.max);
+            while (cursor.advance()) {
+                visitor.consume(volume, cursor.get(), cursor.x(), cursor.y(), cursor.z());
+            }
+        });
+    }
+
+    private static final class ElementSpliterator<V extends Volume> extends Spliterators.AbstractSpliterator<VolumeElement<V, BlockState>> {
+
+        private final Supplier<V> volumeSupplier;
+        private final SectionBlockCursor cursor;
+
+        ElementSpliterator(final Supplier<V> volumeSupplier, final SectionBlockCursor cursor) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.volumeSupplier = volumeSupplier;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super VolumeElement<V, BlockState>> action) {
+            if (!this.cursor.advance()) {
+                return false;
+            }
+            final BlockState state = this.cursor.get();
+            action.accept(VolumeElement.of(this.volumeSupplier, () -> state,
+                new Vector3d(this.cursor.x(), this.cursor.y(), this.cursor.z())));
+            return true;
+        }
+
+    }
+
+}
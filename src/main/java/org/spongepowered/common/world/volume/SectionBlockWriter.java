@@ -0,0 +1,182 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ThreadedLevelLightEngine;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.TrackingUtil;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * Writes a region of block states into a {@link ServerLevel} one
+ * {@link LevelChunkSection} at a time, setting the states straight into the
+ * section instead of going through {@link ServerLevel#setBlock} for each of
+ * them. Heightmaps are updated per position the same way
+ * {@link LevelChunk#setBlockState} updates them, lighting is only queued for
+ * positions whose light properties changed, and clients receive the changes
+ * of a section as a single section update.
+ *
+ * <p>None of the writes are captured, so this may only be used when nothing
+ * would observe them: see {@link #canWrite(ServerLevel, BlockChangeFlag)}.
+ * Positions where a block entity is added or removed still go through
+ * {@link ServerLevel#setBlock}.</p>
+ */
+public final class SectionBlockWriter {
+
+    // The heightmaps LevelChunk#setBlockState keeps up to date
+    private static final Heightmap.Types[] HEIGHTMAPS = {
+        Heightmap.Types.MOTION_BLOCKING,
+        Heightmap.Types.MOTION_BLOCKING_NO_LEAVES,
+        Heightmap.Types.OCEAN_FLOOR,
+        Heightmap.Types.WORLD_SURFACE
+    };
+
+    private SectionBlockWriter() {
+    }
+
+    /**
+     * Gets whether blocks may be written to the given level with the given
+     * flag in bulk. This is only the case on the main thread, when nothing
+     * listens to block changes (see {@link TrackingUtil#blockChangesObserved()})
+     * and when the flag asks for neither physics nor any kind of neighbor
+     * update, since those are driven by every single change.
+     *
+     * @param level The level
+     * @param flag The flag the blocks would be set with
+     * @return Whether the blocks can be written in bulk
+     */
+    public static boolean canWrite(final ServerLevel level, final BlockChangeFlag flag) {
+        return !TrackingUtil.blockChangesObserved()
+            && !flag.updateNeighbors()
+            && !flag.performBlockPhysics()
+            && !flag.updateNeighboringShapes()
+            && PhaseTracker.SERVER.onSidedThread();
+    }
+
+    /**
+     * Writes the states of the source to every position between the given
+     * positions. Positions for which the source has no state are left as is.
+     *
+     * @param level The level to write to
+     * @param min The minimum position in the level
+     * @param max The maximum position in the level
+     * @param source The state to write at a position in the level
+     * @param flag The flag to honor for lighting and client updates
+     * @return The number of changed positions
+     */
+    public static int write(final ServerLevel level, final Vector3i min, final Vector3i max,
+        final VolumePositionSpliterator.PositionFunction<@Nullable BlockState> source, final BlockChangeFlag flag
+    ) {
+        final SpongeBlockChangeFlag spongeFlag = (SpongeBlockChangeFlag) flag;
+        final ThreadedLevelLightEngine lightEngine = level.getChunkSource().getLightEngine();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        final int minY = Math.max(min.y(), level.getMinBuildHeight());
+        final int maxY = Math.min(max.y(), level.getMaxBuildHeight() - 1);
+        int changed = 0;
+        for (int chunkX = min.x() >> 4; chunkX <= max.x() >> 4; chunkX++) {
+            final int x0 = Math.max(min.x(), chunkX << 4);
+            final int x1 = Math.min(max.x(), (chunkX << 4) + 15);
+            for (int chunkZ = min.z() >> 4; chunkZ <= max.z() >> 4; chunkZ++) {
+                final int z0 = Math.max(min.z(), chunkZ << 4);
+                final int z1 = Math.min(max.z(), (chunkZ << 4) + 15);
+                final LevelChunk chunk = level.getChunk(chunkX, chunkZ);
+                final Heightmap[] heightmaps = new Heightmap[SectionBlockWriter.HEIGHTMAPS.length];
+                for (int i = 0; i < heightmaps.length; i++) {
+                    heightmaps[i] = chunk.getOrCreateHeightmapUnprimed(SectionBlockWriter.HEIGHTMAPS[i]);
+                }
+                int chunkChanged = 0;
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                    final LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+                    final boolean wasEmpty = section.hasOnlyAir();
+                    final int y0 = Math.max(minY, sectionY << 4);
+                    final int y1 = Math.min(maxY, (sectionY << 4) + 15);
+                    int sectionChanged = 0;
+                    for (int y = y0; y <= y1; y++) {
+                        for (int z = z0; z <= z1; z++) {
+                            for (int x = x0; x <= x1; x++) {
+                                final @Nullable BlockState state = source.apply(x, y, z);
+                                if (state == null) {
+                                    continue;
+                                }
+                                final BlockState old = section.getBlockState(x & 15, y & 15, z & 15);
+                                if (old == state) {
+                                    continue;
+                                }
+                                pos.set(x, y, z);
+                                if (old.hasBlockEntity() || state.hasBlockEntity()) {
+                                    if (level.setBlock(pos, state, spongeFlag.getRawFlag())) {
+                                        chunkChanged++;
+                                    }
+                                    continue;
+                                }
+                                section.setBlockState(x & 15, y & 15, z & 15, state, false);
+                                sectionChanged++;
+                                for (final Heightmap heightmap : heightmaps) {
+                                    heightmap.update(x & 15, y, z & 15, state);
+                                }
+                                level.onBlockStateChange(pos, old, state);
+                                if (spongeFlag.updateLighting() && SectionBlockWriter.changesLight(level, pos, old, state)) {
+                                    chunk.getSkyLightSources().update(chunk, x & 15, y, z & 15);
+                                    lightEngine.checkBlock(pos);
+                                }
+                                if (spongeFlag.notifyClients()) {
+                                    // Collected per section by the chunk holder and sent with the next broadcast
+                                    level.sendBlockUpdated(pos, old, state, spongeFlag.getRawFlag());
+                                }
+                            }
+                        }
+                    }
+                    if (sectionChanged != 0 && spongeFlag.updateLighting() && wasEmpty != section.hasOnlyAir()) {
+                        lightEngine.updateSectionStatus(SectionPos.of(chunkX, sectionY, chunkZ), section.hasOnlyAir());
+                    }
+                    chunkChanged += sectionChanged;
+                }
+                if (chunkChanged != 0) {
+                    chunk.setUnsaved(true);
+                    changed += chunkChanged;
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static boolean changesLight(final ServerLevel level, final BlockPos pos, final BlockState old, final BlockState state) {
+        return state.getLightBlock(level, pos) != old.getLightBlock(level, pos)
+            || state.getLightEmission() != old.getLightEmission()
+            || state.useShapeForLightOcclusion()
+            || old.useShapeForLightOcclusion();
+    }
+
+}
@@ -49,6 +49,14 @@
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+/**
+ * The common {@link VolumeStream} over a {@link Stream} of elements.
+ *
+ * <p>The backing stream may be parallel, see
+ * {@link org.spongepowered.common.world.volume.stream.SpongeStreamOptionsBuilder#parallel(boolean)},
+ * but applying and consuming elements always happens sequentially on the
+ * calling thread.</p>
+ */
 public class SpongeVolumeStream<V extends Volume, T> implements VolumeStream<V, T> {
 
     private final Supplier<? extends V> volumeSupplier;
@@ -207,7 +215,7 @@ public Stream<VolumeElement<V, T>> toStream() {
     @Override
     public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> collector) {
         this.startPhase(() -> {
-            this.stream.forEach(element -> {
+            this.stream.sequential().forEach(element -> {
                 final W targetVolume = collector.target().get();
                 final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
                     collector.target(),
@@ -242,7 +250,7 @@ public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T,
     @Override
     public void forEach(final VolumeConsumer<V, T> visitor) {
         this.startPhase(() -> {
-            this.stream.forEach(element -> visitor.consume(
+            this.stream.sequential().forEach(element -> visitor.consume(
                 element.volume(),
                 element.type(),
                 element.position().x(),
@@ -254,10 +262,10 @@ public void forEach(final VolumeConsumer<V, T> visitor) {
 
     @Override
     public void forEach(final Consumer<VolumeElement<V, T>> consumer) {
-        this.stream.forEach(consumer);
+        this.stream.sequential().forEach(consumer);
     }
 
-    private void startPhase(final Runnable runnable) {
+    protected void startPhase(final Runnable runnable) {
         final PhaseTracker instance = PhaseTracker.getInstance();
         try (final @Nullable PhaseContext<@NonNull ?> context = instance.getPhaseContext().isApplyingStreams()
             ? null
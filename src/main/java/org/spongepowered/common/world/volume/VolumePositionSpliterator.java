@@ -0,0 +1,162 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over every position of a box, visiting them along x,
+ * then z, then y, the same order the volume buffers have always streamed in.
+ *
+ * <p>Splitting hands out the lower half of the box along x, preferring a
+ * chunk boundary, and along z once only a single column of x is left. Boxes
+ * are not split below the size of a chunk section, and only before they
+ * have been advanced.</p>
+ *
+ * @param <E> The type of element
+ */
+public final class VolumePositionSpliterator<E> implements Spliterator<E> {
+
+    private static final long MIN_SPLIT_SIZE = 16 * 16 * 16;
+
+    private final PositionFunction<? extends E> function;
+    private int x0;
+    private final int y0;
+    private int z0;
+    private final int x1;
+    private final int y1;
+    private int z1;
+
+    private int x;
+    private int y;
+    private int z;
+
+    public VolumePositionSpliterator(final Vector3i min, final Vector3i max, final PositionFunction<? extends E> function) {
+        this(min.x(), min.y(), min.z(), max.x(), max.y(), max.z(), function);
+    }
+
+    private VolumePositionSpliterator(final int x0, final int y0, final int z0, final int x1, final int y1, final int z1,
+        final PositionFunction<? extends E> function
+    ) {
+        this.function = function;
+        this.x0 = x0;
+        this.y0 = y0;
+        this.z0 = z0;
+        this.x1 = x1;
+        this.y1 = y1;
+        this.z1 = z1;
+        this.x = x0;
+        this.y = y0;
+        this.z = z0;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super E> action) {
+        if (this.x > this.x1) {
+            return false;
+        }
+        action.accept(this.function.apply(this.x, this.y, this.z));
+        if (++this.y > this.y1) {
+            this.y = this.y0;
+            if (++this.z > this.z1) {
+                this.z = this.z0;
+                this.x++;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        for (; this.x <= this.x1; this.x++) {
+            for (; this.z <= this.z1; this.z++) {
+                for (; this.y <= this.y1; this.y++) {
+                    action.accept(this.function.apply(this.x, this.y, this.z));
+                }
+                this.y = this.y0;
+            }
+            this.z = this.z0;
+        }
+    }
+
+    @Override
+    public @Nullable Spliterator<E> trySplit() {
+        if (this.x != this.x0 || this.y != this.y0 || this.z != this.z0 || this.estimateSize() < 2 * VolumePositionSpliterator.MIN_SPLIT_SIZE) {
+            return null;
+        }
+        if (this.x1 > this.x0) {
+            final int split = VolumePositionSpliterator.splitPoint(this.x0, this.x1);
+            final VolumePositionSpliterator<E> prefix = new VolumePositionSpliterator<>(
+                this.x0, this.y0, this.z0, split - 1, this.y1, this.z1, this.function);
+            this.x0 = split;
+            this.x = split;
+            return prefix;
+        }
+        if (this.z1 == this.z0) {
+            return null;
+        }
+        // A single column of x is left, which can be split along z without changing the order
+        final int split = VolumePositionSpliterator.splitPoint(this.z0, this.z1);
+        final VolumePositionSpliterator<E> prefix = new VolumePositionSpliterator<>(
+            this.x0, this.y0, this.z0, this.x1, this.y1, split - 1, this.function);
+        this.z0 = split;
+        this.z = split;
+        return prefix;
+    }
+
+    private static int splitPoint(final int min, final int max) {
+        final int middle = (min + max + 1) >> 1;
+        final int chunk = middle & ~15;
+        return chunk > min ? chunk : middle;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (this.x > this.x1) {
+            return 0;
+        }
+        final long height = this.y1 - this.y0 + 1;
+        return (long) (this.x1 - this.x) * (this.z1 - this.z0 + 1) * height
+            + (long) (this.z1 - this.z) * height
+            + (this.y1 - this.y + 1);
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+    }
+
+    @FunctionalInterface
+    public interface PositionFunction<E> {
+
+        E apply(int x, int y, int z);
+
+    }
+
+}
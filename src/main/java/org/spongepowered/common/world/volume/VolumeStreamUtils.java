@@ -70,6 +70,7 @@
 import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.volume.buffer.blockentity.ObjectArrayMutableBlockEntityBuffer;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptions;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -87,6 +88,7 @@
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class VolumeStreamUtils {
 
@@ -116,6 +118,25 @@ public static <MC, T> org.spongepowered.api.registry.Registry<T> nativeToSpongeR
         return (org.spongepowered.api.registry.Registry) registry;
     }
 
+    /**
+     * Creates a stream of an element for every position between the given
+     * positions, which is parallel if the options ask for it. Only meant for
+     * volumes that are not backed by a world.
+     *
+     * @param min The minimum position
+     * @param max The maximum position
+     * @param options The stream options
+     * @param elementFunction The function creating the element at a position
+     * @param <V> The type of volume
+     * @param <T> The type of element
+     * @return The stream
+     */
+    public static <V extends Volume, T> Stream<VolumeElement<V, T>> positionStream(final Vector3i min, final Vector3i max,
+        final StreamOptions options, final VolumePositionSpliterator.PositionFunction<VolumeElement<V, T>> elementFunction
+    ) {
+        return StreamSupport.stream(new VolumePositionSpliterator<>(min, max, elementFunction), SpongeStreamOptions.isParallel(options));
+    }
+
     public static Predicate<org.spongepowered.api.util.Tuple<Vector3d, EntityArchetype>> entityArchetypePositionFilter(final Vector3i min, final Vector3i max) {
         return VolumeStreamUtils.filterPositions(tuple -> tuple.first().toInt(), min, max);
     }
@@ -433,13 +454,14 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
             Objects.requireNonNull(options, "options"));
 
         final boolean shouldCarbonCopy = options.carbonCopy();
-        final Vector3i size = max.sub(min).add(1, 1 ,1);
-        final @MonotonicNonNull ArrayMutableBlockBuffer backingVolume;
-        if (shouldCarbonCopy) {
-            backingVolume = new ArrayMutableBlockBuffer(min, size);
-        } else {
-            backingVolume = null;
+        if (!shouldCarbonCopy) {
+            // Nothing is copied, so the states can be read straight from the chunk sections
+            final Supplier<W> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier((W) reader, "World");
+            return new SectionBlockVolumeStream<>(worldSupplier,
+                VolumeStreamUtils.sectionChunkLookup(reader, worldSupplier, min, max, options), min, max);
         }
+        final Vector3i size = max.sub(min).add(1, 1 ,1);
+        final ArrayMutableBlockBuffer backingVolume = new ArrayMutableBlockBuffer(min, size);
         return VolumeStreamUtils.<W, org.spongepowered.api.block.BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
             min,
             max,
@@ -459,6 +481,36 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
         );
     }
 
+    @SuppressWarnings("unchecked")
+    private static <W extends Region<W>> SectionBlockCursor.ChunkLookup sectionChunkLookup(final LevelReader reader,
+        final Supplier<W> worldSupplier, final Vector3i min, final Vector3i max, final StreamOptions options
+    ) {
+        final BiFunction<W, ChunkPos, @Nullable ChunkAccess> accessor =
+            VolumeStreamUtils.getChunkAccessorByStatus(reader, options.loadingStyle().generateArea());
+        final SectionBlockCursor.ChunkLookup lookup = (chunkX, chunkZ) -> accessor.apply(worldSupplier.get(), new ChunkPos(chunkX, chunkZ));
+        if (!options.loadingStyle().immediateLoading()) {
+            return lookup;
+        }
+        // Load the chunks up front, their states are still read as the stream is consumed. The chunks
+        // keep their world alive, so they are only weakly held and looked up again once collected.
+        final int minChunkX = min.x() >> 4;
+        final int minChunkZ = min.z() >> 4;
+        final int chunksZ = (max.z() >> 4) - minChunkZ + 1;
+        final @Nullable WeakReference<ChunkAccess>[] chunks = new WeakReference[((max.x() >> 4) - minChunkX + 1) * chunksZ];
+        for (int i = 0; i < chunks.length; i++) {
+            final @Nullable ChunkAccess chunk = lookup.chunk(minChunkX + i / chunksZ, minChunkZ + i % chunksZ);
+            chunks[i] = chunk == null ? null : new WeakReference<>(chunk);
+        }
+        return (chunkX, chunkZ) -> {
+            final @Nullable WeakReference<ChunkAccess> reference = chunks[(chunkX - minChunkX) * chunksZ + chunkZ - minChunkZ];
+            if (reference == null) {
+                return null;
+            }
+            final @Nullable ChunkAccess chunk = reference.get();
+            return chunk == null ? lookup.chunk(chunkX, chunkZ) : chunk;
+        };
+    }
+
     public static <R extends Region<R>> VolumeStream<R, BlockEntity> getBlockEntityStream(final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options) {
         VolumeStreamUtils.validateStreamArgs(Objects.requireNonNull(min, "min"), Objects.requireNonNull(max, "max"),
             Objects.requireNonNull(options, "options"));
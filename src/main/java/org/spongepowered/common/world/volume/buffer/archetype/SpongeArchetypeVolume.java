@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.world.volume.buffer.archetype;
 
+import net.minecraft.server.level.ServerLevel;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
@@ -53,6 +54,7 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.world.volume.SectionBlockWriter;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.AbstractVolumeBuffer;
@@ -67,10 +69,8 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class SpongeArchetypeVolume extends AbstractVolumeBuffer implements ArchetypeVolume {
@@ -111,6 +111,16 @@ public Palette<BlockState, BlockType> blockPalette() {
         return this.blocks.blockPalette();
     }
 
+    /**
+     * Gets the buffer holding the blocks of this volume, for loaders that
+     * fill it in bulk. Does not copy!
+     *
+     * @return The block buffer
+     */
+    public ArrayMutableBlockBuffer blockBuffer() {
+        return this.blocks;
+    }
+
     @Override
     public Optional<BlockEntityArchetype> blockEntityArchetype(final int x, final int y, final int z) {
         return this.blockEntities.blockEntityArchetype(x, y, z);
@@ -204,12 +214,8 @@ public VolumeStream<ArchetypeVolume, BlockState> blockStateStream(final Vector3i
         } else {
             buffer = this.blocks;
         }
-        final Stream<VolumeElement<ArchetypeVolume, BlockState>> stateStream = IntStream.rangeClosed(min.x(), max.x())
-            .mapToObj(x -> IntStream.rangeClosed(min.z(), max.z())
-                .mapToObj(z -> IntStream.rangeClosed(min.y(), max.y())
-                    .mapToObj(y -> VolumeElement.of((ArchetypeVolume) this, () -> buffer.block(x, y, z), new Vector3d(x, y, z)))
-                ).flatMap(Function.identity())
-            ).flatMap(Function.identity());
+        final Stream<VolumeElement<ArchetypeVolume, BlockState>> stateStream = VolumeStreamUtils.positionStream(min, max, options,
+            (x, y, z) -> VolumeElement.of((ArchetypeVolume) this, () -> buffer.block(x, y, z), new Vector3d(x, y, z)));
         return new SpongeVolumeStream<>(stateStream, () -> this);
     }
 
@@ -280,12 +286,20 @@ public void applyToWorld(
             .spawnType(spawnContext)
             .source(this)) {
             context.buildAndSwitch();
-            this.blockStateStream(this.min(), this.max(), StreamOptions.lazily())
-                .apply(VolumeCollectors.of(
-                    target,
-                    VolumePositionTranslators.relativeTo(placement),
-                    VolumeApplicators.applyBlocks(flag)
-                ));
+            if (SectionBlockWriter.canWrite((ServerLevel) target, flag)) {
+                SectionBlockWriter.write((ServerLevel) target, this.min().add(placement), this.max().add(placement),
+                    (x, y, z) -> (net.minecraft.world.level.block.state.BlockState) this.blocks.block(
+                        x - placement.x(), y - placement.y(), z - placement.z()),
+                    flag
+                );
+            } else {
+                this.blockStateStream(this.min(), this.max(), StreamOptions.lazily())
+                    .apply(VolumeCollectors.of(
+                        target,
+                        VolumePositionTranslators.relativeTo(placement),
+                        VolumeApplicators.applyBlocks(flag)
+                    ));
+            }
 
             this.biomeStream(this.min(), this.max(), StreamOptions.lazily())
                 .apply(VolumeCollectors.of(
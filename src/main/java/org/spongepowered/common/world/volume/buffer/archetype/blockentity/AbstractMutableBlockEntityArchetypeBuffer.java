@@ -40,8 +40,6 @@
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
-import java.util.function.Function;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public abstract class AbstractMutableBlockEntityArchetypeBuffer extends AbstractBlockBuffer implements BlockEntityArchetypeVolume.Mutable {
@@ -108,12 +106,8 @@ public VolumeStream<BlockEntityArchetypeVolume.Mutable, BlockState> blockStateSt
         } else {
             buffer = this.blockBuffer;
         }
-        final Stream<VolumeElement<BlockEntityArchetypeVolume.Mutable, BlockState>> stateStream = IntStream.rangeClosed(min.x(), max.x())
-            .mapToObj(x -> IntStream.rangeClosed(min.z(), max.z())
-                .mapToObj(z -> IntStream.rangeClosed(min.y(), max.y())
-                    .mapToObj(y -> VolumeElement.of((BlockEntityArchetypeVolume.Mutable) this, () -> buffer.block(x, y, z), new Vector3d(x, y, z)))
-                ).flatMap(Function.identity())
-            ).flatMap(Function.identity());
+        final Stream<VolumeElement<BlockEntityArchetypeVolume.Mutable, BlockState>> stateStream = VolumeStreamUtils.positionStream(min, max, options,
+            (x, y, z) -> VolumeElement.of((BlockEntityArchetypeVolume.Mutable) this, () -> buffer.block(x, y, z), new Vector3d(x, y, z)));
         return new SpongeVolumeStream<>(stateStream, () -> this);
     }
 }
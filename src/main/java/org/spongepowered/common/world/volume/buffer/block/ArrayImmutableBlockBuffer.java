@@ -41,8 +41,6 @@
 import org.spongepowered.math.vector.Vector3i;
 
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class ArrayImmutableBlockBuffer extends AbstractBlockBuffer implements BlockVolume.Immutable {
@@ -138,12 +136,8 @@ public VolumeStream<Immutable, BlockState> blockStateStream(final Vector3i min,
     ) {
         VolumeStreamUtils.validateStreamArgs(min, max, this.min(), this.max(), options);
         // We don't need to copy since this is immutable.
-        final Stream<VolumeElement<Immutable, BlockState>> stateStream = IntStream.rangeClosed(min.x(), max.x())
-            .mapToObj(x -> IntStream.rangeClosed(min.z(), max.z())
-                .mapToObj(z -> IntStream.rangeClosed(min.y(), max.y())
-                    .mapToObj(y -> VolumeElement.<Immutable, BlockState>of(this, () -> this.block(x, y, z), new Vector3d(x, y, z)))
-                ).flatMap(Function.identity())
-            ).flatMap(Function.identity());
+        final Stream<VolumeElement<Immutable, BlockState>> stateStream = VolumeStreamUtils.positionStream(min, max, options,
+            (x, y, z) -> VolumeElement.<Immutable, BlockState>of(this, () -> this.block(x, y, z), new Vector3d(x, y, z)));
         return new SpongeVolumeStream<>(stateStream, () -> this);
     }
 }
@@ -48,8 +48,6 @@
 import org.spongepowered.math.vector.Vector3i;
 
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class ArrayMutableBlockBuffer extends AbstractBlockBuffer implements BlockVolume.Mutable {
@@ -127,6 +125,45 @@ public Palette<BlockState, BlockType> blockPalette() {
     public boolean setBlock(final int x, final int y, final int z, final BlockState block) {
         this.checkRange(x, y, z);
         final int id = this.palette.orAssign(block);
+        this.ensureCapacity(id);
+        this.data.set(this.getIndex(x, y, z), id);
+        return true;
+    }
+
+    /**
+     * Assigns all of the given states to the palette of this buffer at once,
+     * growing the backing data at most a single time, so their ids can be
+     * written with {@link #setBlockId(int, int, int, int)}.
+     *
+     * @param states The states to assign, which may contain gaps
+     * @return The id of each state in this buffer, at the index of the state
+     */
+    public int[] assignAll(final @Nullable BlockState[] states) {
+        final int[] ids = new int[states.length];
+        int highestId = 0;
+        for (int i = 0; i < states.length; i++) {
+            if (states[i] != null) {
+                ids[i] = this.palette.orAssign(states[i]);
+                highestId = Math.max(highestId, ids[i]);
+            }
+        }
+        this.ensureCapacity(highestId);
+        return ids;
+    }
+
+    /**
+     * Sets the id of a block without any palette lookup or range check.
+     *
+     * @param x The x position
+     * @param y The y position
+     * @param z The z position
+     * @param id An id returned by {@link #assignAll(BlockState[])}
+     */
+    public void setBlockId(final int x, final int y, final int z, final int id) {
+        this.data.set(this.getIndex(x, y, z), id);
+    }
+
+    private void ensureCapacity(final int id) {
         if (id > this.data.getMax()) {
 
             final int highId = this.palette.highestId();
@@ -137,8 +174,6 @@ public boolean setBlock(final int x, final int y, final int z, final BlockState
             }
             this.data = newdata;
         }
-        this.data.set(this.getIndex(x, y, z), id);
-        return true;
     }
 
     @Override
@@ -199,12 +234,8 @@ public VolumeStream<BlockVolume.Mutable, BlockState> blockStateStream(final Vect
         } else {
             buffer = this;
         }
-        final Stream<VolumeElement<BlockVolume.Mutable, BlockState>> stateStream = IntStream.rangeClosed(min.x(), max.x())
-                .mapToObj(x -> IntStream.rangeClosed(min.z(), max.z())
-                        .mapToObj(z -> IntStream.rangeClosed(min.y(), max.y())
-                                .mapToObj(y -> VolumeElement.of((BlockVolume.Mutable) this, () -> buffer.block(x, y, z), new Vector3d(x, y, z)))
-                        ).flatMap(Function.identity())
-                ).flatMap(Function.identity());
+        final Stream<VolumeElement<BlockVolume.Mutable, BlockState>> stateStream = VolumeStreamUtils.positionStream(min, max, options,
+            (x, y, z) -> VolumeElement.of((BlockVolume.Mutable) this, () -> buffer.block(x, y, z), new Vector3d(x, y, z)));
         return new SpongeVolumeStream<>(stateStream, () -> this);
     }
 
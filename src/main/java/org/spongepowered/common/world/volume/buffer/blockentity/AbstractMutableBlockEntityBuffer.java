@@ -40,8 +40,6 @@
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
-import java.util.function.Function;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public abstract class AbstractMutableBlockEntityBuffer extends AbstractBlockBuffer implements BlockEntityVolume.Mutable {
@@ -103,12 +101,8 @@ public VolumeStream<BlockEntityVolume.Mutable, BlockState> blockStateStream(fina
         } else {
             buffer = this.blockBuffer;
         }
-        final Stream<VolumeElement<BlockEntityVolume.Mutable, BlockState>> stateStream = IntStream.rangeClosed(min.x(), max.x())
-                .mapToObj(x -> IntStream.rangeClosed(min.z(), max.z())
-                        .mapToObj(z -> IntStream.rangeClosed(min.y(), max.y())
-                                .mapToObj(y -> VolumeElement.of((BlockEntityVolume.Mutable) this, () -> buffer.block(x, y, z), new Vector3d(x, y, z)))
-                        ).flatMap(Function.identity())
-                ).flatMap(Function.identity());
+        final Stream<VolumeElement<BlockEntityVolume.Mutable, BlockState>> stateStream = VolumeStreamUtils.positionStream(min, max, options,
+            (x, y, z) -> VolumeElement.of((BlockEntityVolume.Mutable) this, () -> buffer.block(x, y, z), new Vector3d(x, y, z)));
         return new SpongeVolumeStream<>(stateStream, () -> this);
     }
 
@@ -32,6 +32,7 @@ public class SpongeStreamOptionsBuilder implements StreamOptions.Builder {
 
     boolean copies = false;
     StreamOptions.LoadingStyle loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
+    boolean parallel = false;
 
     @Override
     public StreamOptions.Builder setCarbonCopy(final boolean copies) {
@@ -45,10 +46,28 @@ public StreamOptions.Builder setLoadingStyle(final StreamOptions.LoadingStyle st
         return this;
     }
 
+    /**
+     * Sets whether streams over volumes that are detached from any world, such
+     * as block buffers and schematics, are split by chunk and run on the common
+     * fork-join pool. Elements keep their order, so ordered operations still
+     * produce the same result as a sequential stream.
+     *
+     * <p>Streams over worlds are always sequential, as is anything applying or
+     * passing elements to a consumer, so writes happen on the calling thread.</p>
+     *
+     * @param parallel Whether the stream may be parallel
+     * @return This builder, for chaining
+     */
+    public SpongeStreamOptionsBuilder parallel(final boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
     @Override
     public StreamOptions.Builder reset() {
         this.copies = false;
         this.loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
+        this.parallel = false;
         return this;
     }
 
@@ -167,6 +167,7 @@ public Subject subject() {
 
     @Inject(method = "tickServer", at = @At(value = "HEAD"))
     private void impl$onServerTickStart(final CallbackInfo ci) {
+        PhaseTracker.SERVER.tick();
         this.scheduler().tick();
     }
 
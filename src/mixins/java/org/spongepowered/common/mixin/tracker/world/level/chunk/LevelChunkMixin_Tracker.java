@@ -113,6 +113,12 @@ public abstract class LevelChunkMixin_Tracker extends ChunkAccessMixin_Tracker i
         if (isFake) {
             throw new IllegalStateException("Cannot call ChunkBridge.bridge$buildChunkPipeline in non-Server managed worlds");
         }
+        // Sponge - Setting the same state is a no-op for the section, so
+        // don't build a snapshot and transaction that would be discarded
+        if (currentState == newState) {
+            ChunkPipeline.recordElidedWrite();
+            return ChunkPipeline.nullReturn((LevelChunk) (Object) this, (ServerLevel) this.level);
+        }
         // int var4 = var1.getY();
         // LevelChunkSection var6 = this.sections[var5];
         // int i = pos.getX() & 15;
@@ -134,7 +140,11 @@ public abstract class LevelChunkMixin_Tracker extends ChunkAccessMixin_Tracker i
         final @Nullable BlockEntity existing = this.shadow$getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
         // Build a transaction maybe?
         final WeakReference<ServerLevel> ref = new WeakReference<>((ServerLevel) this.level);
+        // The block entity survives a change that keeps the block type, so its
+        // data only needs to be read if something asks the snapshot for it. That
+        // is only deferred while no listener can be handed the snapshot to keep.
         final SpongeBlockSnapshot snapshot = TrackingUtil.createPooledSnapshot(currentState, pos, flag, limit, existing,
+            existing != null && currentState.is(newState.getBlock()) && !TrackingUtil.blockChangesObserved(),
             () -> Objects.requireNonNull(ref.get(), "ServerWorld dereferenced"),
             Optional::empty, Optional::empty
         );
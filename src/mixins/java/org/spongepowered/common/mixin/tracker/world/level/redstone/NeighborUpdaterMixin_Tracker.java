@@ -38,6 +38,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
@@ -70,13 +71,17 @@ public interface NeighborUpdaterMixin_Tracker {
             return;
         }
 
-        final var targetChunk = serverLevel.getChunkAt(targetPos);
-        final Supplier<ServerLevel> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(serverLevel, "ServerWorld");
-        final net.minecraft.world.level.block.entity.@Nullable BlockEntity existingTile = targetChunk.getBlockEntity(
-            targetPos,
-            LevelChunk.EntityCreationType.CHECK
-        );
-        peek.getTransactor().logNeighborNotification(worldSupplier, fromPos, fromBlock, targetPos, targetState, existingTile);
+        // The notification is only recorded for NotifyNeighborBlockEvent, and cannot be restored,
+        // so there is nothing to capture while no listener exists.
+        if (ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT) {
+            final var targetChunk = serverLevel.getChunkAt(targetPos);
+            final Supplier<ServerLevel> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(serverLevel, "ServerWorld");
+            final net.minecraft.world.level.block.entity.@Nullable BlockEntity existingTile = targetChunk.getBlockEntity(
+                targetPos,
+                LevelChunk.EntityCreationType.CHECK
+            );
+            peek.getTransactor().logNeighborNotification(worldSupplier, fromPos, fromBlock, targetPos, targetState, existingTile);
+        }
 
         peek.associateNeighborStateNotifier(fromPos, targetState.getBlock(), targetPos, serverLevel, PlayerTracker.Type.NOTIFIER);
     }
@@ -25,6 +25,10 @@
 package org.spongepowered.common.test;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.applaunch.config.common.EventManagerCategory;
+import org.spongepowered.common.event.manager.EventType;
+import org.spongepowered.common.event.manager.RegisteredListener;
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.util.DefinableClassLoader;
 
@@ -39,4 +43,17 @@ public TestEventManager(final DefinableClassLoader loader) {
     public TestEventManager() {
         this.loader = null;
     }
+
+    public TestEventManager(final EventManagerCategory config) {
+        super(config);
+        this.loader = null;
+    }
+
+    public RegisteredListener.Cache handlers(final Class<? extends Event> eventClass) {
+        return this.handlersCache.get(new EventType<>(eventClass));
+    }
+
+    public boolean isBaked(final Class<? extends Event> eventClass) {
+        return this.handlersCache.getIfPresent(new EventType<>(eventClass)) != null;
+    }
 }
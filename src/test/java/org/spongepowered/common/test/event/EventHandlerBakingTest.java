@@ -0,0 +1,170 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.test.event;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.common.applaunch.config.common.EventManagerCategory;
+import org.spongepowered.common.event.manager.RegisteredListener;
+import org.spongepowered.common.test.TestEventManager;
+import org.spongepowered.common.test.UnitTestExtension;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+@ExtendWith(UnitTestExtension.class)
+public class EventHandlerBakingTest {
+
+    @Test
+    public void includedSubtypesAreBaked() {
+        final TestEventManager eventManager = new TestEventManager();
+        final PluginContainer mock = Mockito.mock(PluginContainer.class);
+        final Included included = new Included();
+        eventManager.registerListeners(mock, included, MethodHandles.lookup());
+
+        Assertions.assertTrue(EventHandlerBakingTest.hasHandle(eventManager.handlers(ChildEvent.class).getListeners(), included),
+            "Listener was not baked for its included type");
+        Assertions.assertTrue(EventHandlerBakingTest.hasHandle(eventManager.handlers(GrandChildEvent.class).getListeners(), included),
+            "Listener was not baked for a subtype of its included type");
+        Assertions.assertFalse(EventHandlerBakingTest.hasHandle(eventManager.handlers(OtherEvent.class).getListeners(), included),
+            "Listener was baked for a type it does not include");
+    }
+
+    @Test
+    public void excludedSubtypesAreNotBaked() {
+        final TestEventManager eventManager = new TestEventManager();
+        final PluginContainer mock = Mockito.mock(PluginContainer.class);
+        final Excluded excluded = new Excluded();
+        eventManager.registerListeners(mock, excluded, MethodHandles.lookup());
+
+        Assertions.assertFalse(EventHandlerBakingTest.hasHandle(eventManager.handlers(ChildEvent.class).getListeners(), excluded),
+            "Listener was baked for its excluded type");
+        Assertions.assertFalse(EventHandlerBakingTest.hasHandle(eventManager.handlers(GrandChildEvent.class).getListeners(), excluded),
+            "Listener was baked for a subtype of its excluded type");
+        Assertions.assertTrue(EventHandlerBakingTest.hasHandle(eventManager.handlers(OtherEvent.class).getListeners(), excluded),
+            "Listener was not baked for a type it does not exclude");
+    }
+
+    @Test
+    public void onlyRelatedHandlersAreInvalidated() {
+        final TestEventManager eventManager = new TestEventManager();
+        final PluginContainer mock = Mockito.mock(PluginContainer.class);
+        eventManager.handlers(ChildEvent.class);
+        eventManager.handlers(UnrelatedEvent.class);
+
+        final Excluded excluded = new Excluded();
+        eventManager.registerListeners(mock, excluded, MethodHandles.lookup());
+        Assertions.assertFalse(eventManager.isBaked(ChildEvent.class), "Handlers of a subtype of the listener were not invalidated");
+        Assertions.assertTrue(eventManager.isBaked(UnrelatedEvent.class), "Handlers of an unrelated event were invalidated");
+
+        eventManager.handlers(ChildEvent.class);
+        eventManager.unregisterListeners(excluded);
+        Assertions.assertFalse(eventManager.isBaked(ChildEvent.class), "Handlers of a subtype of the listener were not invalidated");
+        Assertions.assertTrue(eventManager.isBaked(UnrelatedEvent.class), "Handlers of an unrelated event were invalidated");
+    }
+
+    @Test
+    public void asyncListenersAreSeparated() {
+        final EventManagerCategory config = new EventManagerCategory();
+        config.asyncListeners.add("async_test:" + AsyncParent.class.getName());
+        final TestEventManager eventManager = new TestEventManager(config);
+        final PluginContainer mock = Mockito.mock(PluginContainer.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(mock.metadata().id()).thenReturn("async_test");
+        final AsyncParent async = new AsyncParent();
+        eventManager.registerListeners(mock, async, MethodHandles.lookup());
+
+        final RegisteredListener.Cache child = eventManager.handlers(ChildEvent.class);
+        Assertions.assertTrue(EventHandlerBakingTest.hasHandle(child.getAsyncListeners(), async),
+            "Async listener was not passed events off the posting thread");
+        Assertions.assertFalse(EventHandlerBakingTest.hasHandle(child.getListeners(), async),
+            "Async listener was also passed events on the posting thread");
+
+        final RegisteredListener.Cache cancellable = eventManager.handlers(CancellableChildEvent.class);
+        Assertions.assertTrue(cancellable.getAsyncListeners().isEmpty(), "Cancellable event was passed to async listeners");
+        Assertions.assertTrue(EventHandlerBakingTest.hasHandle(cancellable.getListeners(), async),
+            "Async listener was not passed a cancellable event on the posting thread");
+    }
+
+    private static boolean hasHandle(final List<RegisteredListener<?>> listeners, final Object handle) {
+        for (final RegisteredListener<?> listener : listeners) {
+            if (listener.getHandle() == handle) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public interface ParentEvent extends Event {
+    }
+
+    public interface ChildEvent extends ParentEvent {
+    }
+
+    public interface GrandChildEvent extends ChildEvent {
+    }
+
+    public interface CancellableChildEvent extends ChildEvent, Cancellable {
+    }
+
+    public interface OtherEvent extends ParentEvent {
+    }
+
+    public interface UnrelatedEvent extends Event {
+    }
+
+    public static class Included {
+
+        @Include(ChildEvent.class)
+        @Listener
+        public void onParent(final ParentEvent event) {
+
+        }
+    }
+
+    public static class Excluded {
+
+        @Exclude(ChildEvent.class)
+        @Listener
+        public void onParent(final ParentEvent event) {
+
+        }
+    }
+
+    public static class AsyncParent {
+
+        @Listener
+        public void onParent(final ParentEvent event) {
+
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.data.MemoryDataContainer;
+import org.spongepowered.common.data.MemoryDataView;
+import org.spongepowered.common.data.persistence.NBTDataFormat;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+public final class SchematicStreamsTest {
+
+    // Large enough for the data to be written in several pieces
+    private static final Vector3i MIN = new Vector3i(-50, 0, 10);
+    private static final Vector3i MAX = new Vector3i(49, 9, 109);
+
+    private static int id(final int x, final int y, final int z) {
+        // Ids from 0 to 299, so some take one byte and some two
+        return Math.floorMod(x * 7 + y * 31 + z, 300);
+    }
+
+    private static SchematicStreams.VolumeData data(final long length) {
+        return new SchematicStreams.VolumeData(length, SchematicStreamsTest::id, SchematicStreamsTest.MIN, SchematicStreamsTest.MAX, null);
+    }
+
+    private static long measure() {
+        long length = 0;
+        for (int y = SchematicStreamsTest.MIN.y(); y <= SchematicStreamsTest.MAX.y(); y++) {
+            for (int z = SchematicStreamsTest.MIN.z(); z <= SchematicStreamsTest.MAX.z(); z++) {
+                for (int x = SchematicStreamsTest.MIN.x(); x <= SchematicStreamsTest.MAX.x(); x++) {
+                    length += SchematicStreams.varIntSize(SchematicStreamsTest.id(x, y, z));
+                }
+            }
+        }
+        return length;
+    }
+
+    @Test
+    void testVolumeDataIsWrittenInSchematicOrder() {
+        final byte[] data = SchematicStreamsTest.data(SchematicStreamsTest.measure()).resolve();
+        Assertions.assertTrue(data.length > 64 * 1024);
+
+        final Vector3i size = SchematicStreamsTest.MAX.sub(SchematicStreamsTest.MIN).add(Vector3i.ONE);
+        final int[] decoded = new int[1];
+        final VarIntVolumeDecoder decoder = new VarIntVolumeDecoder(size.x(), size.y(), size.z(), SchematicStreamsTest.MIN,
+            (x, y, z, id) -> {
+                Assertions.assertEquals(SchematicStreamsTest.id(x, y, z), id);
+                decoded[0]++;
+            });
+        decoder.decode(data, 0, data.length);
+        decoder.finish();
+
+        Assertions.assertEquals(size.x() * size.y() * size.z(), decoded[0]);
+    }
+
+    @Test
+    void testVolumeDataOfWrongLengthIsRejected() {
+        final SchematicStreams.VolumeData data = SchematicStreamsTest.data(SchematicStreamsTest.measure() - 1);
+
+        Assertions.assertThrows(IllegalStateException.class, data::resolve);
+    }
+
+    @Test
+    void testVolumeDataIsOnlyEncodedWhenRead() {
+        final MemoryDataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        final DataView blocks = container.createView(Constants.Sponge.Schematic.BLOCK_CONTAINER);
+        final SchematicStreams.VolumeData data = SchematicStreamsTest.data(SchematicStreamsTest.measure());
+        blocks.set(Constants.Sponge.Schematic.BLOCK_DATA, data);
+
+        Assertions.assertSame(data, ((MemoryDataView) blocks).getRaw("Data"));
+        Assertions.assertArrayEquals(data.resolve(), (byte[]) container.get(
+            Constants.Sponge.Schematic.BLOCK_CONTAINER.then(Constants.Sponge.Schematic.BLOCK_DATA)).get());
+        Assertions.assertInstanceOf(byte[].class, ((MemoryDataView) blocks).getRaw("Data"));
+    }
+
+    @Test
+    void testVolumeDataIsStreamedAsNbt() throws IOException {
+        final MemoryDataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        final DataView blocks = container.createView(DataQuery.of("Schematic", "Blocks"));
+        final SchematicStreams.VolumeData data = SchematicStreamsTest.data(SchematicStreamsTest.measure());
+        blocks.set(Constants.Sponge.Schematic.BLOCK_DATA, data);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new NBTDataFormat().writeTo(new DataOutputStream(bytes), container);
+        final CompoundTag read = NbtIo.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        Assertions.assertArrayEquals(data.resolve(), read.getCompound("Schematic").getCompound("Blocks").getByteArray("Data"));
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class VarIntVolumeDecoderTest {
+
+    // 128, 5, 65535 and 300 as varints, where the first, third and fourth take more than one byte
+    private static final byte[] DATA = {(byte) 0x80, 0x01, 0x05, (byte) 0xFF, (byte) 0xFF, 0x03, (byte) 0xAC, 0x02};
+
+    @Test
+    void testMultiByteIdsAreDecoded() {
+        final List<String> decoded = new ArrayList<>();
+        final VarIntVolumeDecoder decoder = new VarIntVolumeDecoder(2, 1, 2, new Vector3i(10, 20, 30),
+            (x, y, z, id) -> decoded.add(x + "," + y + "," + z + "=" + id));
+        decoder.decode(VarIntVolumeDecoderTest.DATA, 0, VarIntVolumeDecoderTest.DATA.length);
+        decoder.finish();
+
+        Assertions.assertEquals(List.of("10,20,30=128", "11,20,30=5", "10,20,31=65535", "11,20,31=300"), decoded);
+    }
+
+    @Test
+    void testIdsSplitAcrossPiecesAreDecoded() {
+        final List<Integer> decoded = new ArrayList<>();
+        final VarIntVolumeDecoder decoder = new VarIntVolumeDecoder(2, 1, 2, Vector3i.ZERO, (x, y, z, id) -> decoded.add(id));
+        // Every piece ends in the middle of a varint
+        decoder.decode(VarIntVolumeDecoderTest.DATA, 0, 1);
+        decoder.decode(VarIntVolumeDecoderTest.DATA, 1, 4);
+        decoder.decode(VarIntVolumeDecoderTest.DATA, 4, 7);
+        decoder.decode(VarIntVolumeDecoderTest.DATA, 7, VarIntVolumeDecoderTest.DATA.length);
+        decoder.finish();
+
+        Assertions.assertEquals(List.of(128, 5, 65535, 300), decoded);
+    }
+
+    @Test
+    void testDataEndingInVarIntIsRejected() {
+        final VarIntVolumeDecoder decoder = new VarIntVolumeDecoder(2, 1, 2, Vector3i.ZERO, (x, y, z, id) -> {});
+        decoder.decode(VarIntVolumeDecoderTest.DATA, 0, 4);
+
+        Assertions.assertThrows(InvalidDataException.class, decoder::finish);
+    }
+
+    @Test
+    void testDataLargerThanVolumeIsRejected() {
+        final VarIntVolumeDecoder decoder = new VarIntVolumeDecoder(1, 1, 1, Vector3i.ZERO, (x, y, z, id) -> {});
+
+        Assertions.assertThrows(InvalidDataException.class,
+            () -> decoder.decode(VarIntVolumeDecoderTest.DATA, 0, VarIntVolumeDecoderTest.DATA.length));
+    }
+
+}